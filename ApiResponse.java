@@ -0,0 +1,69 @@
+package com.act2gether.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * API 응답 envelope
+ * 기존 HashMap 응답과 같은 JSON 필드를 record 로 고정해, 직렬화기가 속성 목록을 한 번만 만들고
+ * 요청마다 Map 을 만들거나 엔트리를 순회하지 않도록 한다.
+ */
+public interface ApiResponse {
+
+    boolean success();
+
+    static <T> Data<T> ok(T data) {
+        return new Data<>(true, data, null);
+    }
+
+    static <T> Data<T> ok(T data, String message) {
+        return new Data<>(true, data, message);
+    }
+
+    static Message message(String message) {
+        return new Message(true, message);
+    }
+
+    static Failure failure(String message) {
+        return new Failure(false, message, System.currentTimeMillis());
+    }
+
+    /**
+     * 단건/목록 데이터 응답 (message 는 있을 때만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Data<T>(boolean success, T data, String message) implements ApiResponse {
+    }
+
+    /**
+     * 데이터 없는 성공 응답
+     */
+    record Message(boolean success, String message) implements ApiResponse {
+    }
+
+    /**
+     * 오류 응답
+     */
+    record Failure(boolean success, String message, long timestamp) implements ApiResponse {
+    }
+
+    /**
+     * 페이지 목록 응답 (facets 는 키워드 검색 시 null)
+     */
+    record PageData<T>(boolean success, List<T> data, int currentPage, int totalPages, long totalElements,
+                       boolean hasNext, boolean hasPrevious, QnaPostDTO.Facets facets) implements ApiResponse {
+    }
+
+    /**
+     * 커서 기반 목록 응답 (마지막 페이지면 nextCursor 는 null)
+     */
+    record CursorData<T>(boolean success, List<T> data, String nextCursor, boolean hasNext) implements ApiResponse {
+    }
+
+    /**
+     * 일괄 처리 응답
+     */
+    record BulkData<T>(boolean success, List<T> data, long succeeded, long failed) implements ApiResponse {
+    }
+}
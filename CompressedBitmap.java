@@ -0,0 +1,371 @@
+package com.act2gether.search;
+
+import java.util.Arrays;
+
+/**
+ * roaring 방식의 압축 비트맵 (0 이상 int 값 집합)
+ * 값의 상위 16비트로 구간(container)을 나누고, 구간마다
+ * - 4096개 이하: 정렬된 char 배열 (ArrayContainer)
+ * - 그 이상: 65536비트 비트맵 (BitmapContainer)
+ * 으로 저장한다. 교집합/차집합은 구간 단위로 처리하므로 값이 몰려 있을수록 빠르다.
+ * 스레드 안전하지 않으므로 QnaFilterIndex 의 락 안에서만 사용한다.
+ */
+final class CompressedBitmap {
+    
+    private static final int ARRAY_MAX = 4096;
+    
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    
+    void add(int value) {
+        char key = (char) (value >>> 16);
+        int index = Arrays.binarySearch(keys, key);
+        if (index >= 0) {
+            containers[index] = containers[index].add((char) value);
+            return;
+        }
+        insertContainer(-index - 1, key, new ArrayContainer(new char[]{(char) value}, 1));
+    }
+    
+    void remove(int value) {
+        int index = Arrays.binarySearch(keys, (char) (value >>> 16));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove((char) value);
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+    }
+    
+    boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, (char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+    
+    int cardinality() {
+        int cardinality = 0;
+        for (Container container : containers) {
+            cardinality += container.cardinality();
+        }
+        return cardinality;
+    }
+    
+    /**
+     * 교집합 (새 비트맵 반환)
+     */
+    CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < keys.length && j < other.keys.length) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 차집합 (this - other, 새 비트맵 반환)
+     */
+    CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.keys.length && other.keys[j] == keys[i]) {
+                result.appendIfNotEmpty(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendIfNotEmpty(keys[i], containers[i]);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 큰 값부터 offset 건을 건너뛰고 최대 limit 건 반환
+     */
+    int[] pageDescending(int offset, int limit) {
+        int[] page = new int[limit];
+        int count = 0;
+        int skip = offset;
+        for (int i = containers.length - 1; i >= 0 && count < limit; i--) {
+            int cardinality = containers[i].cardinality();
+            if (skip >= cardinality) {
+                skip -= cardinality;
+                continue;
+            }
+            char[] values = containers[i].toArray();
+            int high = keys[i] << 16;
+            for (int k = values.length - 1 - skip; k >= 0 && count < limit; k--) {
+                page[count++] = high | values[k];
+            }
+            skip = 0;
+        }
+        return count == limit ? page : Arrays.copyOf(page, count);
+    }
+    
+    // Private helper methods
+    
+    private void appendIfNotEmpty(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insertContainer(keys.length, key, container);
+        }
+    }
+    
+    private void insertContainer(int at, char key, Container container) {
+        char[] newKeys = new char[keys.length + 1];
+        Container[] newContainers = new Container[containers.length + 1];
+        System.arraycopy(keys, 0, newKeys, 0, at);
+        System.arraycopy(containers, 0, newContainers, 0, at);
+        newKeys[at] = key;
+        newContainers[at] = container;
+        System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+        System.arraycopy(containers, at, newContainers, at + 1, containers.length - at);
+        keys = newKeys;
+        containers = newContainers;
+    }
+    
+    private void removeContainer(int at) {
+        char[] newKeys = new char[keys.length - 1];
+        Container[] newContainers = new Container[containers.length - 1];
+        System.arraycopy(keys, 0, newKeys, 0, at);
+        System.arraycopy(containers, 0, newContainers, 0, at);
+        System.arraycopy(keys, at + 1, newKeys, at, keys.length - at - 1);
+        System.arraycopy(containers, at + 1, newContainers, at, containers.length - at - 1);
+        keys = newKeys;
+        containers = newContainers;
+    }
+    
+    /**
+     * 하위 16비트 값 집합 (변경 시 형태가 바뀔 수 있으므로 반환값으로 교체)
+     */
+    private abstract static class Container {
+        
+        abstract Container add(char value);
+        
+        abstract Container remove(char value);
+        
+        abstract boolean contains(char value);
+        
+        abstract int cardinality();
+        
+        abstract char[] toArray();
+        
+        abstract Container and(Container other);
+        
+        abstract Container andNot(Container other);
+    }
+    
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+        
+        private ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+        
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_MAX) {
+                return BitmapContainer.from(this).add(value);
+            }
+            int at = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, at, values, at + 1, cardinality - at);
+            values[at] = value;
+            cardinality++;
+            return this;
+        }
+        
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+        
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+        
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+        
+        @Override
+        char[] toArray() {
+            return Arrays.copyOf(values, cardinality);
+        }
+        
+        @Override
+        Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer) {
+                ArrayContainer array = (ArrayContainer) other;
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+        
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+    }
+    
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+        
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+        
+        static BitmapContainer from(ArrayContainer array) {
+            long[] words = new long[1024];
+            for (int i = 0; i < array.cardinality; i++) {
+                char value = array.values[i];
+                words[value >>> 6] |= 1L << value;
+            }
+            return new BitmapContainer(words, array.cardinality);
+        }
+        
+        @Override
+        Container add(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) == 0) {
+                words[value >>> 6] |= mask;
+                cardinality++;
+            }
+            return this;
+        }
+        
+        @Override
+        Container remove(char value) {
+            long mask = 1L << value;
+            if ((words[value >>> 6] & mask) != 0) {
+                words[value >>> 6] &= ~mask;
+                cardinality--;
+                if (cardinality <= ARRAY_MAX / 2) {
+                    // 충분히 줄어들면 배열로 전환 (경계에서 형태가 반복 변경되지 않도록 여유를 둠)
+                    return new ArrayContainer(toArray(), cardinality);
+                }
+            }
+            return this;
+        }
+        
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+        
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+        
+        @Override
+        char[] toArray() {
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    values[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return values;
+        }
+        
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            return normalize(combine((BitmapContainer) other, false));
+        }
+        
+        @Override
+        Container andNot(Container other) {
+            if (other instanceof ArrayContainer) {
+                long[] result = words.clone();
+                ArrayContainer array = (ArrayContainer) other;
+                for (int i = 0; i < array.cardinality; i++) {
+                    char value = array.values[i];
+                    result[value >>> 6] &= ~(1L << value);
+                }
+                return normalize(result);
+            }
+            return normalize(combine((BitmapContainer) other, true));
+        }
+        
+        private long[] combine(BitmapContainer other, boolean negateOther) {
+            long[] result = new long[words.length];
+            for (int i = 0; i < words.length; i++) {
+                result[i] = words[i] & (negateOther ? ~other.words[i] : other.words[i]);
+            }
+            return result;
+        }
+        
+        private static Container normalize(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality <= ARRAY_MAX ? new ArrayContainer(bitmap.toArray(), cardinality) : bitmap;
+        }
+    }
+}
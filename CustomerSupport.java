@@ -1,10 +1,14 @@
 package com.act2gether.entity;
 
+import com.act2gether.config.PooledTableIdGenerator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -18,7 +22,9 @@ import java.time.LocalDateTime;
 public class CustomerSupport {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "customer_support_id")
+    @GenericGenerator(name = "customer_support_id", strategy = PooledTableIdGenerator.STRATEGY,
+            parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "customer_support"))
     @Column(name = "support_id")
     private Integer supportId;
     
@@ -0,0 +1,28 @@
+package com.act2gether.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * JPA/JdbcTemplate 용 JDBC DataSource (spring.datasource.*, spring.datasource.hikari.*)
+ * DataSourceAutoConfiguration 은 R2DBC ConnectionFactory 빈이 있으면 물러나므로,
+ * 리액티브 읽기(ReactiveReadConfig)를 켜도 JDBC 연결이 유지되도록 직접 등록한다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+}
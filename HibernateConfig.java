@@ -0,0 +1,82 @@
+package com.act2gether.config;
+
+import com.act2gether.entity.QnaPost;
+import com.act2gether.entity.QnaReply;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 설정
+ * - QnaPost / QnaReply 엔티티와 QnaPost.replies 컬렉션용 2차 캐시 (Caffeine JCache, 영역별 크기 제한)
+ * - 테이블 기반 pooled ID 할당과 JDBC 배치 insert
+ */
+@Configuration
+public class HibernateConfig {
+
+    @Value("${app.qna.l2-cache.post-max-entries:10000}")
+    private long postMaxEntries;
+
+    @Value("${app.qna.l2-cache.replies-max-entries:10000}")
+    private long repliesMaxEntries;
+
+    @Value("${app.qna.l2-cache.reply-max-entries:50000}")
+    private long replyMaxEntries;
+
+    @Value("${app.qna.l2-cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${app.id-generation.allocation-size:50}")
+    private int idAllocationSize;
+
+    @Value("${app.jdbc.batch-size:50}")
+    private int jdbcBatchSize;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        createRegion(cacheManager, QnaPost.CACHE_REGION, postMaxEntries);
+        createRegion(cacheManager, QnaPost.REPLIES_CACHE_REGION, repliesMaxEntries);
+        createRegion(cacheManager, QnaReply.CACHE_REGION, replyMaxEntries);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.use_query_cache", false);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            // 영역은 위에서 미리 생성 (크기 제한 없는 기본 캐시가 만들어지지 않도록)
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+            properties.put("javax.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+
+            // 테이블 기반 ID 생성(PooledTableIdGenerator) + JDBC 배치 insert/update
+            properties.put(PooledTableIdGenerator.ALLOCATION_SIZE_SETTING, idAllocationSize);
+            properties.put("hibernate.jdbc.batch_size", jdbcBatchSize);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+            properties.put("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+    private void createRegion(CacheManager cacheManager, String region, long maxEntries) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
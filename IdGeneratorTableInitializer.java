@@ -0,0 +1,77 @@
+package com.act2gether.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+
+/**
+ * id_generators 테이블 초기화
+ * IDENTITY 로 생성된 기존 ID 와 겹치지 않도록 구간별 다음 값을 max(ID)+1 이상으로 맞춘다.
+ * 이미 더 큰 값이면 그대로 두므로 재시작/다중 인스턴스에서도 안전하다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorTableInitializer {
+    
+    // 구간 이름 -> (테이블, ID 컬럼)
+    private static final Map<String, String[]> SEGMENTS = Map.of(
+            "qna_posts", new String[]{"qna_posts", "qna_id"},
+            "qna_replies", new String[]{"qna_replies", "답변_id"},
+            "customer_support", new String[]{"customer_support", "support_id"}
+    );
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PooledTableIdGenerator.TABLE_NAME + " ("
+                + PooledTableIdGenerator.SEGMENT_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + PooledTableIdGenerator.VALUE_COLUMN + " BIGINT)");
+        
+        SEGMENTS.forEach((segment, target) -> {
+            long next = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + target[1] + "), 0) + 1 FROM " + target[0], Long.class);
+            int updated = jdbcTemplate.update(
+                    "UPDATE " + PooledTableIdGenerator.TABLE_NAME
+                            + " SET " + PooledTableIdGenerator.VALUE_COLUMN + " = ?"
+                            + " WHERE " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ?"
+                            + " AND " + PooledTableIdGenerator.VALUE_COLUMN + " < ?",
+                    next, segment, next);
+            if (updated == 0) {
+                insertIfMissing(segment, next);
+            }
+            log.info("ID 생성 구간 확인 - {}: 다음 값 >= {}", segment, next);
+        });
+    }
+    
+    private void insertIfMissing(String segment, long next) {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + PooledTableIdGenerator.TABLE_NAME
+                        + " WHERE " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ?",
+                Integer.class, segment);
+        if (exists != null && exists > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO " + PooledTableIdGenerator.TABLE_NAME
+                            + " (" + PooledTableIdGenerator.SEGMENT_COLUMN + ", " + PooledTableIdGenerator.VALUE_COLUMN + ")"
+                            + " VALUES (?, ?)",
+                    segment, next);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 생성한 경우: 값 보정은 위 UPDATE 와 동일하게 다시 시도
+            jdbcTemplate.update(
+                    "UPDATE " + PooledTableIdGenerator.TABLE_NAME
+                            + " SET " + PooledTableIdGenerator.VALUE_COLUMN + " = ?"
+                            + " WHERE " + PooledTableIdGenerator.SEGMENT_COLUMN + " = ?"
+                            + " AND " + PooledTableIdGenerator.VALUE_COLUMN + " < ?",
+                    next, segment, next);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.act2gether.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 설정
+ * - Blackbird 모듈: getter/record 접근자와 생성자를 리플렉션 대신 LambdaMetafactory 로 만든 함수로 호출
+ *   (Module 빈은 Spring Boot 가 기본 ObjectMapper 에 자동 등록)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.json.blackbird", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
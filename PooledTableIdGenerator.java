@@ -0,0 +1,41 @@
+package com.act2gether.config;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 테이블 기반 pooled-lo ID 생성기
+ * IDENTITY 와 달리 insert 전에 ID 를 알 수 있어 Hibernate JDBC 배치 insert 가 가능하다.
+ * - 엔티티별 구간(segment)은 id_generators 테이블의 한 행으로 관리
+ * - 한 번에 할당받는 ID 개수는 app.id-generation.allocation-size (HibernateConfig 에서 전달)
+ * 기존 ID 와 겹치지 않도록 시작 값은 IdGeneratorTableInitializer 가 max(ID)+1 이상으로 맞춘다.
+ */
+public class PooledTableIdGenerator extends TableGenerator {
+    
+    public static final String STRATEGY = "com.act2gether.config.PooledTableIdGenerator";
+    public static final String TABLE_NAME = "id_generators";
+    public static final String SEGMENT_COLUMN = "segment_name";
+    public static final String VALUE_COLUMN = "next_val";
+    
+    // Hibernate 설정 키 (HibernatePropertiesCustomizer 에서 등록)
+    public static final String ALLOCATION_SIZE_SETTING = "act2gether.id.allocation_size";
+    
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        Object allocationSize = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings()
+                .get(ALLOCATION_SIZE_SETTING);
+        
+        params.setProperty(TABLE_PARAM, TABLE_NAME);
+        params.setProperty(SEGMENT_COLUMN_PARAM, SEGMENT_COLUMN);
+        params.setProperty(VALUE_COLUMN_PARAM, VALUE_COLUMN);
+        params.setProperty(OPT_PARAM, "pooled-lo");
+        params.setProperty(INCREMENT_PARAM, allocationSize != null ? allocationSize.toString() : "50");
+        super.configure(type, params, serviceRegistry);
+    }
+}
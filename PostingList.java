@@ -0,0 +1,203 @@
+package com.act2gether.search;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 정렬된 게시글 ID 목록을 압축 저장하는 포스팅 리스트
+ * 항목마다 (ID delta, 색인 세대, 제목 출현 횟수, 내용 출현 횟수) 를 varint 로 이어 붙인다.
+ * - 가장 흔한 경우(새 글, 가장 큰 ID)는 끝에 바로 덧붙임
+ * - 기존 ID 의 추가/교체는 작은 변경분(delta)에 모았다가, 일정 크기를 넘으면 한 번에 다시 인코딩
+ * - 삭제는 목록을 건드리지 않고 게시글의 색인 세대로 판별 (세대가 다른 항목은 다시 인코딩할 때 제거)
+ * 스레드 안전하지 않으므로 QnaSearchIndex 의 락 안에서만 사용한다.
+ */
+final class PostingList {
+
+    // 변경분을 다시 인코딩하는 기준 (기본 목록 크기의 1/8, 최소 32건)
+    private static final int MIN_DELTA_SIZE = 32;
+
+    private byte[] buffer = new byte[8];
+    private int length;
+    private int baseSize;
+    private long lastId = -1;
+
+    // 기본 목록 이후 추가/교체된 항목 (ID -> {세대, 제목 출현, 내용 출현}), 같은 ID 의 기본 목록 항목보다 우선
+    private TreeMap<Long, int[]> delta;
+
+    /**
+     * 현재 세대 항목인지 판별 (다시 인코딩할 때 오래된 항목 제거용)
+     */
+    interface LiveFilter {
+        boolean isLive(long id, int generation);
+    }
+
+    /**
+     * 저장된 항목 수 (오래된 세대, 변경분에 가려진 기본 목록 항목 포함)
+     */
+    int storedSize() {
+        return baseSize + (delta == null ? 0 : delta.size());
+    }
+
+    boolean isEmpty() {
+        return storedSize() == 0;
+    }
+
+    /**
+     * 항목 추가/교체, 저장된 항목 수의 변화량 반환
+     */
+    int put(long id, int generation, int titleFrequency, int contentFrequency, LiveFilter live) {
+        int before = storedSize();
+        if (id > lastId && (delta == null || delta.isEmpty() || id > delta.lastKey())) {
+            append(id, generation, titleFrequency, contentFrequency);
+            return storedSize() - before;
+        }
+        if (delta == null) {
+            delta = new TreeMap<>();
+        }
+        delta.put(id, new int[]{generation, titleFrequency, contentFrequency});
+        if (delta.size() > Math.max(MIN_DELTA_SIZE, baseSize >> 3)) {
+            compact(live);
+        }
+        return storedSize() - before;
+    }
+
+    /**
+     * 기본 목록과 변경분을 합쳐 디코딩 (ID 오름차순, 오래된 세대 항목도 포함)
+     */
+    Decoded decode() {
+        Decoded decoded = new Decoded(storedSize());
+        Iterator<Map.Entry<Long, int[]>> pending = delta == null
+                ? null : delta.entrySet().iterator();
+        Map.Entry<Long, int[]> next = pending != null && pending.hasNext() ? pending.next() : null;
+
+        int n = 0;
+        long previous = 0;
+        int[] position = {0};
+        for (int i = 0; i < baseSize; i++) {
+            previous += readVarint(position);
+            int generation = (int) readVarint(position);
+            int titleFrequency = (int) readVarint(position);
+            int contentFrequency = (int) readVarint(position);
+
+            while (next != null && next.getKey() < previous) {
+                n = decoded.set(n, next.getKey(), next.getValue());
+                next = pending.hasNext() ? pending.next() : null;
+            }
+            if (next != null && next.getKey() == previous) {
+                // 변경분이 기본 목록 항목을 대체
+                n = decoded.set(n, next.getKey(), next.getValue());
+                next = pending.hasNext() ? pending.next() : null;
+                continue;
+            }
+            decoded.ids[n] = previous;
+            decoded.generations[n] = generation;
+            decoded.titleFrequencies[n] = titleFrequency;
+            decoded.contentFrequencies[n] = contentFrequency;
+            n++;
+        }
+        while (next != null) {
+            n = decoded.set(n, next.getKey(), next.getValue());
+            next = pending.hasNext() ? pending.next() : null;
+        }
+        return decoded.truncate(n);
+    }
+
+    // Private helper methods
+
+    /**
+     * 변경분을 합쳐 다시 인코딩하면서 오래된 세대 항목 제거
+     */
+    private void compact(LiveFilter live) {
+        Decoded merged = decode();
+        buffer = new byte[Math.max(8, merged.ids.length * 5)];
+        length = 0;
+        baseSize = 0;
+        lastId = -1;
+        delta = null;
+        for (int i = 0; i < merged.ids.length; i++) {
+            if (live.isLive(merged.ids[i], merged.generations[i])) {
+                append(merged.ids[i], merged.generations[i], merged.titleFrequencies[i], merged.contentFrequencies[i]);
+            }
+        }
+    }
+
+    private void append(long id, int generation, int titleFrequency, int contentFrequency) {
+        ensureCapacity(length + 30);
+        writeVarint(lastId < 0 ? id : id - lastId);
+        writeVarint(generation & 0xFFFFFFFFL);
+        writeVarint(titleFrequency);
+        writeVarint(contentFrequency);
+        lastId = id;
+        baseSize++;
+    }
+
+    private void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    private long readVarint(int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length + (buffer.length >> 1)));
+        }
+    }
+
+    /**
+     * 디코딩된 포스팅 (ID 오름차순)
+     */
+    static final class Decoded {
+        long[] ids;
+        int[] generations;
+        int[] titleFrequencies;
+        int[] contentFrequencies;
+
+        private Decoded(int size) {
+            this.ids = new long[size];
+            this.generations = new int[size];
+            this.titleFrequencies = new int[size];
+            this.contentFrequencies = new int[size];
+        }
+
+        /**
+         * ID 위치 (없으면 음수)
+         */
+        int indexOf(long id) {
+            return Arrays.binarySearch(ids, id);
+        }
+
+        private int set(int at, long id, int[] entry) {
+            ids[at] = id;
+            generations[at] = entry[0];
+            titleFrequencies[at] = entry[1];
+            contentFrequencies[at] = entry[2];
+            return at + 1;
+        }
+
+        private Decoded truncate(int size) {
+            if (size < ids.length) {
+                ids = Arrays.copyOf(ids, size);
+                generations = Arrays.copyOf(generations, size);
+                titleFrequencies = Arrays.copyOf(titleFrequencies, size);
+                contentFrequencies = Arrays.copyOf(contentFrequencies, size);
+            }
+            return this;
+        }
+    }
+}
@@ -1,27 +1,42 @@
 package com.act2gether.controller;
 
+import com.act2gether.dto.ApiResponse;
 import com.act2gether.dto.QnaPostDTO;
 import com.act2gether.dto.QnaReplyDTO;
+import com.act2gether.event.QnaLiveEventBroadcaster;
+import com.act2gether.repository.QnaPostColumnUpdater;
+import com.act2gether.search.QnaFacetCounter;
+import com.act2gether.search.QnaTitleSuggester;
+import com.act2gether.service.QnaModerationService;
+import com.act2gether.service.QnaPendingAnswerQueue;
 import com.act2gether.service.QnaPostService;
 import com.act2gether.service.QnaReplyService;
 import com.act2gether.util.JwtUtil;
 import com.act2gether.util.SecurityUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.*;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/qna")
@@ -31,21 +46,33 @@ import java.util.Map;
 @CrossOrigin(origins = {"https://yourdomain.com"}) // 특정 도메인만 허용
 public class SecureQnaController {
     
+    // 일괄 조회 최대 게시글 수
+    private static final int MAX_BATCH_IDS = 100;
+    
     private final QnaPostService qnaPostService;
     private final QnaReplyService qnaReplyService;
+    private final QnaModerationService qnaModerationService;
+    private final QnaPendingAnswerQueue pendingAnswerQueue;
+    private final QnaTitleSuggester qnaTitleSuggester;
+    private final QnaFacetCounter qnaFacetCounter;
+    private final QnaLiveEventBroadcaster liveEventBroadcaster;
     private final JwtUtil jwtUtil;
     private final SecurityUtil securityUtil;
+    private final ObjectMapper objectMapper;
     
     // 보안 강화: 입력 검증 추가
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getQnaPosts(
+    public ResponseEntity<ApiResponse> getQnaPosts(
             @RequestParam(defaultValue = "0") @Min(0) @Max(1000) int page,
             @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size,
             @RequestParam(required = false) @Size(max = 100) String keyword,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String answerStatus,
             @RequestParam(required = false, defaultValue = "false") Boolean myPostsOnly,
-            HttpServletRequest request) {
+            @RequestParam(required = false) Boolean hasImage,
+            @RequestParam(required = false) String sort,
+            HttpServletRequest request,
+            WebRequest webRequest) {
         
         try {
             // 입력 검증 및 정화
@@ -60,13 +87,23 @@ public class SecureQnaController {
                     .category(validateCategory(category))
                     .answerStatus(validateAnswerStatus(answerStatus))
                     .myPostsOnly(myPostsOnly)
+                    .hasImage(hasImage)
+                    .sort(validateSort(sort))
                     .build();
             
+            // 필터 칩 건수 (메모리 카운터, 키워드 검색 시 null)
+            QnaPostDTO.Facets facets = qnaFacetCounter.getFacets(searchRequest, userInfo.getUserId(), userInfo.isAdmin());
+            
+            // 조건부 요청: DTO 변환 전에 ETag/Last-Modified 를 비교해 같으면 304 (본문 없음)
             Page<QnaPostDTO.ListResponse> posts = qnaPostService.getQnaPosts(
-                    searchRequest, userInfo.getUserId(), userInfo.isAdmin());
+                    searchRequest, userInfo.getUserId(), userInfo.isAdmin(),
+                    validators -> webRequest.checkNotModified(
+                            validators.add(facets).getETag(), validators.getLastModified()));
+            if (posts == null) {
+                return null;
+            }
             
-            Map<String, Object> response = createSuccessResponse(posts);
-            return ResponseEntity.ok(response);
+            return conditionalOk(createPageResponse(posts, facets));
             
         } catch (IllegalArgumentException e) {
             log.warn("잘못된 요청 파라미터: {}", e.getMessage());
@@ -77,22 +114,104 @@ public class SecureQnaController {
         }
     }
     
+    @GetMapping("/suggestions")
+    public ResponseEntity<ApiResponse> getTitleSuggestions(
+            @RequestParam @NotBlank @Size(max = 50) String prefix,
+            @RequestParam(defaultValue = "8") @Min(1) @Max(10) int limit,
+            HttpServletRequest request) {
+        
+        try {
+            prefix = securityUtil.sanitizeSearchKeyword(prefix);
+            
+            UserInfo userInfo = extractUserInfo(request);
+            
+            List<QnaPostDTO.Suggestion> suggestions = qnaTitleSuggester.suggest(
+                    prefix, limit, userInfo.getUserId(), userInfo.isAdmin());
+            
+            ApiResponse response = ApiResponse.ok(suggestions);
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (SecurityException e) {
+            log.warn("허용되지 않는 자동완성 검색어: {}", e.getMessage());
+            return createErrorResponse("잘못된 요청입니다.", HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("검색어 자동완성 중 오류 발생", e);
+            return createErrorResponse("서비스 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    /**
+     * 실시간 이벤트 스트림 (SSE)
+     * 게시글 등록/삭제, 답변 등록, 답변상태 변경을 열람 가능한 게시글에 한해 전송한다.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<SseEmitter> subscribeEvents(HttpServletRequest request) {
+        UserInfo userInfo = extractUserInfo(request);
+        
+        SseEmitter emitter = liveEventBroadcaster.subscribe(userInfo.getUserId(), userInfo.isAdmin());
+        if (emitter == null) {
+            // 구독자 수 초과: 클라이언트는 잠시 후 재연결
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+    
+    /**
+     * 여러 게시글을 한 번에 조회 (요청 순서대로, 없거나 볼 수 없는 게시글은 null)
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ApiResponse> getQnaPostsBatch(
+            @RequestParam List<Long> ids,
+            HttpServletRequest request) {
+        
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+            return createErrorResponse("게시글 ID 는 1개 이상 " + MAX_BATCH_IDS + "개 이하로 요청해주세요.", HttpStatus.BAD_REQUEST);
+        }
+        if (ids.stream().anyMatch(id -> id == null || id <= 0)) {
+            return createErrorResponse("잘못된 요청입니다.", HttpStatus.BAD_REQUEST);
+        }
+        
+        try {
+            UserInfo userInfo = extractUserInfo(request);
+            
+            List<QnaPostDTO.Response> posts = qnaPostService.getQnaPostsByIds(
+                    ids, userInfo.getUserId(), userInfo.isAdmin());
+            
+            return ResponseEntity.ok(ApiResponse.ok(posts));
+            
+        } catch (Exception e) {
+            log.error("게시글 일괄 조회 중 오류 발생 - 요청 수: {}", ids.size(), e);
+            return createErrorResponse("서비스 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
     @GetMapping("/{qnaId}")
-    public ResponseEntity<Map<String, Object>> getQnaPost(
+    public ResponseEntity<ApiResponse> getQnaPost(
             @PathVariable @Positive Long qnaId,
-            HttpServletRequest request) {
+            HttpServletRequest request,
+            WebRequest webRequest) {
         
         try {
             UserInfo userInfo = extractUserInfo(request);
             
+            // 조건부 요청: 상세 로딩 전에 ETag/Last-Modified 를 비교해 같으면 304 (본문 없음)
             QnaPostDTO.Response post = qnaPostService.getQnaPost(
-                    qnaId, userInfo.getUserId(), userInfo.isAdmin());
+                    qnaId, userInfo.getUserId(), userInfo.isAdmin(), resolveViewerKey(userInfo, request),
+                    validators -> webRequest.checkNotModified(validators.getETag(), validators.getLastModified()));
+            if (post == null) {
+                return null;
+            }
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", post);
+            ApiResponse response = ApiResponse.ok(post);
             
-            return ResponseEntity.ok(response);
+            return conditionalOk(response);
             
         } catch (IllegalArgumentException e) {
             log.warn("게시글 접근 거부 - ID: {}, 사유: {}", qnaId, e.getMessage());
@@ -105,7 +224,7 @@ public class SecureQnaController {
     
     @PostMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Map<String, Object>> createQnaPost(
+    public ResponseEntity<ApiResponse> createQnaPost(
             @RequestParam @NotBlank @Size(max = 20) String category,
             @RequestParam @NotBlank @Size(min = 1, max = 255) String title,
             @RequestParam @NotBlank @Size(min = 1, max = 5000) String content,
@@ -135,10 +254,7 @@ public class SecureQnaController {
             
             QnaPostDTO.Response createdPost = qnaPostService.createQnaPost(createRequest, userInfo.getUserId());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", createdPost);
-            response.put("message", "게시글이 성공적으로 작성되었습니다.");
+            ApiResponse response = ApiResponse.ok(createdPost, "게시글이 성공적으로 작성되었습니다.");
             
             // 보안 로그
             log.info("QnA 게시글 생성 - 사용자: {}, 게시글ID: {}", userInfo.getUserId(), createdPost.getQnaId());
@@ -159,7 +275,7 @@ public class SecureQnaController {
     
     @PutMapping("/{qnaId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Map<String, Object>> updateQnaPost(
+    public ResponseEntity<ApiResponse> updateQnaPost(
             @PathVariable @Positive Long qnaId,
             @RequestParam(required = false) @Size(max = 20) String category,
             @RequestParam(required = false) @Size(max = 255) String title,
@@ -167,10 +283,12 @@ public class SecureQnaController {
             @RequestParam(required = false) Boolean isLocked,
             @RequestParam(required = false, defaultValue = "false") Boolean deleteImage,
             @RequestParam(required = false) MultipartFile imageFile,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             HttpServletRequest request) {
         
         try {
             UserInfo userInfo = extractUserInfoRequired(request);
+            long expectedVersion = parseIfMatch(ifMatch);
             
             // 입력 값 정화
             if (title != null) title = securityUtil.sanitizeHtml(title);
@@ -191,18 +309,19 @@ public class SecureQnaController {
                     .build();
             
             QnaPostDTO.Response updatedPost = qnaPostService.updateQnaPost(
-                    qnaId, updateRequest, userInfo.getUserId(), userInfo.isAdmin());
+                    qnaId, updateRequest, userInfo.getUserId(), userInfo.isAdmin(), expectedVersion);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", updatedPost);
-            response.put("message", "게시글이 성공적으로 수정되었습니다.");
+            ApiResponse response = ApiResponse.ok(updatedPost, "게시글이 성공적으로 수정되었습니다.");
             
             // 보안 로그
             log.info("QnA 게시글 수정 - 사용자: {}, 게시글ID: {}", userInfo.getUserId(), qnaId);
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(versionETag(updatedPost.getVersion())).body(response);
             
+        } catch (OptimisticLockingFailureException e) {
+            log.info("게시글 수정 충돌 - ID: {}, 사유: {}", qnaId, e.getMessage());
+            return createErrorResponse("다른 곳에서 먼저 수정된 게시글입니다. 새로고침 후 다시 시도해주세요.",
+                    HttpStatus.PRECONDITION_FAILED);
         } catch (SecurityException e) {
             log.warn("보안 위반 - 게시글 수정: {}", e.getMessage());
             return createErrorResponse("보안 정책 위반입니다.", HttpStatus.BAD_REQUEST);
@@ -215,9 +334,69 @@ public class SecureQnaController {
         }
     }
     
+    /**
+     * 게시글 부분 수정 (JSON, 보낸 필드만 반영)
+     * 이미지 변경은 multipart 를 쓰는 PUT 으로 처리
+     */
+    @PatchMapping(value = "/{qnaId}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse> patchQnaPost(
+            @PathVariable @Positive Long qnaId,
+            @Valid @RequestBody QnaPostDTO.PatchRequest patchRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletRequest request) {
+        
+        if (isBlankValue(patchRequest.getTitle())) {
+            return createErrorResponse("제목을 입력해주세요.", HttpStatus.BAD_REQUEST);
+        }
+        if (isBlankValue(patchRequest.getContent())) {
+            return createErrorResponse("내용을 입력해주세요.", HttpStatus.BAD_REQUEST);
+        }
+        
+        QnaPost.Category category;
+        try {
+            category = patchRequest.getCategory() != null ? validateAndParseCategory(patchRequest.getCategory()) : null;
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+        
+        try {
+            UserInfo userInfo = extractUserInfoRequired(request);
+            long expectedVersion = parseIfMatch(ifMatch);
+            
+            QnaPostDTO.UpdateRequest updateRequest = QnaPostDTO.UpdateRequest.builder()
+                    .category(category)
+                    .title(patchRequest.getTitle() != null ? securityUtil.sanitizeHtml(patchRequest.getTitle()) : null)
+                    .content(patchRequest.getContent() != null ? securityUtil.sanitizeHtml(patchRequest.getContent()) : null)
+                    .isLocked(patchRequest.getIsLocked())
+                    .build();
+            
+            QnaPostDTO.Response updatedPost = qnaPostService.patchQnaPost(
+                    qnaId, updateRequest, userInfo.getUserId(), userInfo.isAdmin(), expectedVersion);
+            
+            ApiResponse response = ApiResponse.ok(updatedPost, "게시글이 성공적으로 수정되었습니다.");
+            
+            return ResponseEntity.ok().eTag(versionETag(updatedPost.getVersion())).body(response);
+            
+        } catch (OptimisticLockingFailureException e) {
+            log.info("게시글 부분 수정 충돌 - ID: {}, 사유: {}", qnaId, e.getMessage());
+            return createErrorResponse("다른 곳에서 먼저 수정된 게시글입니다. 새로고침 후 다시 시도해주세요.",
+                    HttpStatus.PRECONDITION_FAILED);
+        } catch (SecurityException e) {
+            log.warn("보안 위반 - 게시글 부분 수정: {}", e.getMessage());
+            return createErrorResponse("보안 정책 위반입니다.", HttpStatus.BAD_REQUEST);
+        } catch (IllegalArgumentException e) {
+            log.warn("권한 없음 - 게시글 부분 수정 시도 - ID: {}, 사유: {}", qnaId, e.getMessage());
+            return createErrorResponse("수정 권한이 없습니다.", HttpStatus.FORBIDDEN);
+        } catch (Exception e) {
+            log.error("게시글 부분 수정 중 오류 발생 - ID: {}", qnaId, e);
+            return createErrorResponse("게시글 수정에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
     @DeleteMapping("/{qnaId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Map<String, Object>> deleteQnaPost(
+    public ResponseEntity<ApiResponse> deleteQnaPost(
             @PathVariable @Positive Long qnaId,
             HttpServletRequest request) {
         
@@ -226,9 +405,7 @@ public class SecureQnaController {
             
             qnaPostService.deleteQnaPost(qnaId, userInfo.getUserId(), userInfo.isAdmin());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "게시글이 성공적으로 삭제되었습니다.");
+            ApiResponse response = ApiResponse.message("게시글이 성공적으로 삭제되었습니다.");
             
             // 보안 로그
             log.info("QnA 게시글 삭제 - 사용자: {}, 게시글ID: {}", userInfo.getUserId(), qnaId);
@@ -246,7 +423,7 @@ public class SecureQnaController {
     
     @PostMapping("/{qnaId}/replies")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, Object>> createReply(
+    public ResponseEntity<ApiResponse> createReply(
             @PathVariable @Positive Long qnaId,
             @Valid @RequestBody QnaReplyDTO.CreateRequest request,
             HttpServletRequest httpRequest) {
@@ -265,10 +442,7 @@ public class SecureQnaController {
             QnaReplyDTO.Response createdReply = qnaReplyService.createReply(
                     qnaId, request, userInfo.getUserId(), userInfo.isAdmin());
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("data", createdReply);
-            response.put("message", "답변이 성공적으로 작성되었습니다.");
+            ApiResponse response = ApiResponse.ok(createdReply, "답변이 성공적으로 작성되었습니다.");
             
             // 보안 로그
             log.info("QnA 답변 생성 - 관리자: {}, 게시글ID: {}", userInfo.getUserId(), qnaId);
@@ -284,6 +458,253 @@ public class SecureQnaController {
         }
     }
     
+    /**
+     * 답변 수정 (관리자, If-Match 로 버전 확인)
+     */
+    @PutMapping("/replies/{replyId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse> updateReply(
+            @PathVariable @Positive Long replyId,
+            @Valid @RequestBody QnaReplyDTO.UpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletRequest httpRequest) {
+        
+        try {
+            UserInfo userInfo = extractUserInfoRequired(httpRequest);
+            long expectedVersion = parseIfMatch(ifMatch);
+            
+            // 입력 값 정화
+            request.setReplyContent(securityUtil.sanitizeHtml(request.getReplyContent()));
+            
+            QnaReplyDTO.Response updatedReply = qnaReplyService.updateReply(
+                    replyId, request, userInfo.getUserId(), userInfo.isAdmin(), expectedVersion);
+            
+            ApiResponse response = ApiResponse.ok(updatedReply, "답변이 성공적으로 수정되었습니다.");
+            
+            // 보안 로그
+            log.info("QnA 답변 수정 - 관리자: {}, 답변ID: {}", userInfo.getUserId(), replyId);
+            
+            return ResponseEntity.ok().eTag(versionETag(updatedReply.getVersion())).body(response);
+            
+        } catch (OptimisticLockingFailureException e) {
+            log.info("답변 수정 충돌 - ID: {}, 사유: {}", replyId, e.getMessage());
+            return createErrorResponse("다른 곳에서 먼저 수정된 답변입니다. 새로고침 후 다시 시도해주세요.",
+                    HttpStatus.PRECONDITION_FAILED);
+        } catch (IllegalArgumentException e) {
+            log.warn("권한 없음 - 답변 수정 시도 - ID: {}, 사유: {}", replyId, e.getMessage());
+            return createErrorResponse("수정 권한이 없습니다.", HttpStatus.FORBIDDEN);
+        } catch (Exception e) {
+            log.error("답변 수정 중 오류 발생 - 답변 ID: {}", replyId, e);
+            return createErrorResponse("답변 수정에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    @PostMapping("/admin/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse> moderateInBulk(
+            @Valid @RequestBody QnaPostDTO.BulkModerationRequest request,
+            HttpServletRequest httpRequest) {
+        
+        try {
+            UserInfo userInfo = extractUserInfoRequired(httpRequest);
+            
+            // 관리자 권한 재확인
+            if (!userInfo.isAdmin()) {
+                throw new SecurityException("관리자 권한이 필요합니다.");
+            }
+            
+            // 입력 값 정화
+            if (request.getReplyContent() != null) {
+                request.setReplyContent(securityUtil.sanitizeHtml(request.getReplyContent()));
+            }
+            
+            List<QnaPostDTO.BulkItemResult> results = qnaModerationService.moderate(
+                    request, userInfo.getUserId(), userInfo.isAdmin());
+            long succeeded = results.stream().filter(QnaPostDTO.BulkItemResult::isSuccess).count();
+            
+            ApiResponse response = new ApiResponse.BulkData<>(true, results, succeeded, results.size() - succeeded);
+            
+            // 보안 로그
+            log.info("QnA 일괄 처리 - 관리자: {}, 작업: {}, 대상: {}건",
+                    userInfo.getUserId(), request.getAction(), results.size());
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (SecurityException e) {
+            log.warn("권한 없음 - 일괄 처리 시도: {}", e.getMessage());
+            return createErrorResponse("관리자 권한이 필요합니다.", HttpStatus.FORBIDDEN);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("일괄 처리 중 오류 발생", e);
+            return createErrorResponse("일괄 처리에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    @GetMapping("/admin/pending/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse> getPendingStats(HttpServletRequest request) {
+        
+        try {
+            UserInfo userInfo = extractUserInfoRequired(request);
+            
+            // 관리자 권한 재확인
+            if (!userInfo.isAdmin()) {
+                throw new SecurityException("관리자 권한이 필요합니다.");
+            }
+            
+            ApiResponse response = ApiResponse.ok(pendingAnswerQueue.getStats());
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (SecurityException e) {
+            log.warn("권한 없음 - 답변 대기 현황 조회 시도: {}", e.getMessage());
+            return createErrorResponse("관리자 권한이 필요합니다.", HttpStatus.FORBIDDEN);
+        } catch (Exception e) {
+            log.error("답변 대기 현황 조회 중 오류 발생", e);
+            return createErrorResponse("답변 대기 현황 조회에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    @PostMapping("/admin/pending/claim")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse> claimPendingPosts(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(20) int count,
+            HttpServletRequest request) {
+        
+        try {
+            UserInfo userInfo = extractUserInfoRequired(request);
+            
+            // 관리자 권한 재확인
+            if (!userInfo.isAdmin()) {
+                throw new SecurityException("관리자 권한이 필요합니다.");
+            }
+            
+            QnaPost.Category categoryEnum = category != null && !category.isEmpty()
+                    ? validateAndParseCategory(category) : null;
+            List<QnaPostDTO.PendingClaim> claims = pendingAnswerQueue.claim(userInfo.getUserId(), categoryEnum, count);
+            
+            ApiResponse response = ApiResponse.ok(claims);
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (SecurityException e) {
+            log.warn("권한 없음 - 답변 대기 할당 시도: {}", e.getMessage());
+            return createErrorResponse("관리자 권한이 필요합니다.", HttpStatus.FORBIDDEN);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("답변 대기 할당 중 오류 발생", e);
+            return createErrorResponse("답변 대기 할당에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    @DeleteMapping("/admin/pending/{qnaId}/lease")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse> releasePendingPost(
+            @PathVariable @Positive Long qnaId,
+            HttpServletRequest request) {
+        
+        try {
+            UserInfo userInfo = extractUserInfoRequired(request);
+            
+            // 관리자 권한 재확인
+            if (!userInfo.isAdmin()) {
+                throw new SecurityException("관리자 권한이 필요합니다.");
+            }
+            
+            if (!pendingAnswerQueue.release(userInfo.getUserId(), qnaId)) {
+                return createErrorResponse("할당받은 게시글이 아닙니다.", HttpStatus.CONFLICT);
+            }
+            
+            ApiResponse response = ApiResponse.message("할당이 해제되었습니다.");
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (SecurityException e) {
+            log.warn("권한 없음 - 답변 대기 할당 해제 시도: {}", e.getMessage());
+            return createErrorResponse("관리자 권한이 필요합니다.", HttpStatus.FORBIDDEN);
+        } catch (Exception e) {
+            log.error("답변 대기 할당 해제 중 오류 발생", e);
+            return createErrorResponse("할당 해제에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    @GetMapping("/replies/history")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse> getReplyHistory(
+            @RequestParam(required = false) @Size(max = 200) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            HttpServletRequest request) {
+        
+        try {
+            UserInfo userInfo = extractUserInfoRequired(request);
+            
+            // 관리자 권한 재확인
+            if (!userInfo.isAdmin()) {
+                throw new SecurityException("관리자 권한이 필요합니다.");
+            }
+            
+            QnaReplyDTO.HistoryPage history = qnaReplyService.getRepliesByAdmin(userInfo.getUserId(), cursor, size);
+            
+            ApiResponse response = new ApiResponse.CursorData<>(
+                    true, history.getReplies(), history.getNextCursor(), history.isHasNext());
+            
+            return ResponseEntity.ok(response);
+            
+        } catch (SecurityException e) {
+            log.warn("권한 없음 - 답변 이력 조회 시도: {}", e.getMessage());
+            return createErrorResponse("관리자 권한이 필요합니다.", HttpStatus.FORBIDDEN);
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("답변 이력 조회 중 오류 발생", e);
+            return createErrorResponse("답변 이력을 불러오는데 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    /**
+     * 관리자 답변 이력 전체를 JSON 배열로 스트리밍 (한 건씩 직렬화해 전송)
+     */
+    @GetMapping(value = "/replies/history/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportReplyHistory(HttpServletRequest request) {
+        
+        UserInfo userInfo;
+        try {
+            userInfo = extractUserInfoRequired(request);
+            
+            // 관리자 권한 재확인
+            if (!userInfo.isAdmin()) {
+                throw new SecurityException("관리자 권한이 필요합니다.");
+            }
+        } catch (SecurityException e) {
+            log.warn("권한 없음 - 답변 이력 내보내기 시도: {}", e.getMessage());
+            return createErrorResponse("관리자 권한이 필요합니다.", HttpStatus.FORBIDDEN);
+        }
+        
+        Long adminUserId = userInfo.getUserId();
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                qnaReplyService.streamRepliesByAdmin(adminUserId, reply -> {
+                    try {
+                        generator.writeObject(reply);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+            log.info("답변 이력 내보내기 완료 - 관리자: {}", adminUserId);
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
     // Private helper methods
     
     private UserInfo extractUserInfo(HttpServletRequest request) {
@@ -318,6 +739,16 @@ public class SecureQnaController {
         return userInfo;
     }
     
+    /**
+     * 조회수 중복 판별용 조회자 키 (로그인 사용자는 ID, 비로그인은 IP)
+     */
+    private String resolveViewerKey(UserInfo userInfo, HttpServletRequest request) {
+        if (userInfo.getUserId() != null) {
+            return "u:" + userInfo.getUserId();
+        }
+        return "ip:" + getClientIpAddress(request);
+    }
+    
     private String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
@@ -334,6 +765,10 @@ public class SecureQnaController {
         }
     }
     
+    private boolean isBlankValue(String value) {
+        return value != null && value.trim().isEmpty();
+    }
+    
     private QnaPost.Category validateCategory(String category) {
         if (category == null || category.isEmpty()) {
             return null;
@@ -352,25 +787,58 @@ public class SecureQnaController {
         }
     }
     
-    private Map<String, Object> createSuccessResponse(Page<?> page) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", true);
-        response.put("data", page.getContent());
-        response.put("currentPage", page.getNumber());
-        response.put("totalPages", page.getTotalPages());
-        response.put("totalElements", page.getTotalElements());
-        response.put("hasNext", page.hasNext());
-        response.put("hasPrevious", page.hasPrevious());
-        return response;
+    private QnaPostDTO.SortType validateSort(String sort) {
+        if (sort == null || sort.isEmpty()) {
+            return QnaPostDTO.SortType.LATEST;
+        }
+        try {
+            return QnaPostDTO.SortType.valueOf(sort.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 정렬 방식입니다: " + sort);
+        }
     }
     
-    private ResponseEntity<Map<String, Object>> createErrorResponse(String message, HttpStatus status) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("success", false);
-        response.put("message", message);
-        response.put("timestamp", System.currentTimeMillis());
-        
-        return ResponseEntity.status(status).body(response);
+    private <T> ApiResponse createPageResponse(Page<T> page, QnaPostDTO.Facets facets) {
+        return new ApiResponse.PageData<>(true, page.getContent(), page.getNumber(), page.getTotalPages(),
+                page.getTotalElements(), page.hasNext(), page.hasPrevious(), facets);
+    }
+    
+    /**
+     * If-Match 헤더에서 기대 버전 추출 (없거나 * 이면 버전 조건 없음)
+     * 버전 ETag 는 강한 ETag ("버전") 이며, 형식이 맞지 않으면 일치할 수 없으므로 412 로 처리
+     */
+    private long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return QnaPostColumnUpdater.ANY_VERSION;
+        }
+        String value = ifMatch.trim();
+        if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            try {
+                return Long.parseLong(value.substring(1, value.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // 아래에서 처리
+            }
+        }
+        throw new OptimisticLockingFailureException("If-Match 형식 오류: " + ifMatch);
+    }
+    
+    private String versionETag(Long version) {
+        return "\"" + version + "\"";
+    }
+    
+    /**
+     * 조건부 GET 응답 (ETag/Last-Modified 는 checkNotModified 에서 설정됨)
+     * 브라우저가 매번 검증하도록 no-cache, 로그인 사용자별로 내용이 다르므로 Authorization 기준 Vary
+     */
+    private ResponseEntity<ApiResponse> conditionalOk(ApiResponse body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+                .header(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION)
+                .body(body);
+    }
+    
+    private ResponseEntity<ApiResponse> createErrorResponse(String message, HttpStatus status) {
+        return ResponseEntity.status(status).body(ApiResponse.failure(message));
     }
     
     // Inner class for user information
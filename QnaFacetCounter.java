@@ -0,0 +1,74 @@
+package com.act2gether.search;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.entity.QnaPost;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 목록 필터(카테고리/답변상태/잠금) 조합별 게시글 수
+ * - QnaFilterIndex 의 속성별 비트맵 교집합 크기로 (카테고리 × 답변상태 × 잠금) 칸을 계산
+ * - 게시글 상태를 따로 보관하지 않으므로 필터 색인과 항상 같은 값이고 별도 재집계가 필요 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class QnaFacetCounter {
+
+    private static final QnaPost.Category[] CATEGORIES = QnaPost.Category.values();
+    private static final QnaPost.AnswerStatus[] STATUSES = QnaPost.AnswerStatus.values();
+
+    private final QnaFilterIndex qnaFilterIndex;
+
+    /**
+     * 목록 조건에 맞는 필터별 건수 (키워드/이미지 조건은 칸으로 나누지 않으므로 null)
+     */
+    public QnaPostDTO.Facets getFacets(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin) {
+        if ((searchRequest.getKeyword() != null && !searchRequest.getKeyword().isEmpty())
+                || searchRequest.getHasImage() != null) {
+            return null;
+        }
+
+        // 일반 사용자 목록에는 잠긴 글이 나오지 않음 (QnaPostSpecification 과 동일, 색인에서 제외)
+        long[][][] cells = qnaFilterIndex.countByCategoryStatusLock(
+                Boolean.TRUE.equals(searchRequest.getMyPostsOnly()), currentUserId, isAdmin);
+        if (cells == null) {
+            return null;
+        }
+
+        QnaPost.Category categoryFilter = searchRequest.getCategory();
+        QnaPost.AnswerStatus statusFilter = searchRequest.getAnswerStatus();
+        Map<QnaPost.Category, Long> byCategory = new EnumMap<>(QnaPost.Category.class);
+        Map<QnaPost.AnswerStatus, Long> byStatus = new EnumMap<>(QnaPost.AnswerStatus.class);
+        long total = 0;
+        long locked = 0;
+        long unlocked = 0;
+
+        for (QnaPost.Category category : CATEGORIES) {
+            for (QnaPost.AnswerStatus status : STATUSES) {
+                for (int lockedBit = 0; lockedBit <= 1; lockedBit++) {
+                    long count = cells[category.ordinal()][status.ordinal()][lockedBit];
+                    boolean categoryMatches = categoryFilter == null || categoryFilter == category;
+                    boolean statusMatches = statusFilter == null || statusFilter == status;
+                    if (statusMatches) {
+                        byCategory.merge(category, count, Long::sum);
+                    }
+                    if (categoryMatches) {
+                        byStatus.merge(status, count, Long::sum);
+                    }
+                    if (categoryMatches && statusMatches) {
+                        total += count;
+                        if (lockedBit == 1) {
+                            locked += count;
+                        } else {
+                            unlocked += count;
+                        }
+                    }
+                }
+            }
+        }
+        return new QnaPostDTO.Facets(total, byCategory, byStatus, locked, unlocked);
+    }
+}
@@ -0,0 +1,309 @@
+package com.act2gether.search;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.entity.QnaPost;
+import com.act2gether.event.QnaPostChangedEvent;
+import com.act2gether.repository.QnaPostFilterView;
+import com.act2gether.repository.QnaPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 키워드 없는 목록 조회용 비트맵 색인
+ * - 게시글마다 작성 순서대로 번호(ordinal)를 붙이고, 속성 값별로 번호 집합을 CompressedBitmap 으로 보관
+ *   (잠금, 카테고리, 답변상태, 이미지 유무, 작성자)
+ * - 필터 조합은 비트맵 교집합/차집합으로 계산하고, 큰 번호(최신 글)부터 요청한 페이지의 ID 만 반환
+ * - 전체 건수는 결과 비트맵의 크기이므로 COUNT 쿼리가 필요 없음
+ * - 목록 필터 건수(facet)도 같은 비트맵의 교집합 크기로 계산 (QnaFacetCounter)
+ * 애플리케이션 시작 시 작성 순서로 생성하고, 이후에는 게시글/답변 변경 이벤트(커밋 후)로 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QnaFilterIndex {
+    
+    private static final int BUILD_BATCH_SIZE = 1000;
+    
+    private final QnaPostRepository qnaPostRepository;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+    
+    // 색인 생성 중 도착한 변경 이벤트 (생성 완료 후 순서대로 재적용)
+    private final List<QnaPostChangedEvent> pendingEvents = new ArrayList<>();
+    private volatile boolean ready;
+    
+    /**
+     * 전체 색인 생성 (작성 순서 = 번호 순서)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        IndexData newData = new IndexData();
+        
+        // (생성날, qnaId) 커서로 다음 묶음 조회 (생성 중 삭제가 있어도 다른 게시글을 건너뛰지 않음)
+        PageRequest batchRequest = PageRequest.of(0, BUILD_BATCH_SIZE);
+        List<QnaPostFilterView> batch = qnaPostRepository.findFilterViews(batchRequest);
+        while (!batch.isEmpty()) {
+            for (QnaPostFilterView view : batch) {
+                newData.upsert(view.getQnaId(), view.getUserPid(), view.getCategory(), view.getAnswerStatus(),
+                        Boolean.TRUE.equals(view.getIsLocked()), hasImage(view.getImagePath()));
+            }
+            if (batch.size() < BUILD_BATCH_SIZE) {
+                break;
+            }
+            QnaPostFilterView last = batch.get(batch.size() - 1);
+            batch = qnaPostRepository.findFilterViewsAfter(last.getCreatedAt(), last.getQnaId(), batchRequest);
+        }
+        
+        lock.writeLock().lock();
+        try {
+            data = newData;
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        log.info("QnA 목록 필터 색인 생성 완료 - 게시글: {}, 소요: {}ms",
+                newData.alive.cardinality(), System.currentTimeMillis() - started);
+    }
+    
+    /**
+     * 게시글 변경 커밋 후 증분 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaPostChanged(QnaPostChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pendingEvents.add(event);
+                return;
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 키워드 없는 목록 조회를 처리할 수 있는지 확인
+     */
+    public boolean canServe(QnaPostDTO.SearchRequest searchRequest) {
+        return ready && (searchRequest.getKeyword() == null || searchRequest.getKeyword().trim().isEmpty());
+    }
+    
+    /**
+     * 필터 조합 후 요청한 페이지의 게시글 ID (최신순) 와 전체 건수 반환
+     */
+    public QnaSearchIndex.SearchHits query(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin) {
+        lock.readLock().lock();
+        try {
+            CompressedBitmap result = data.alive;
+            if (searchRequest.getCategory() != null) {
+                result = result.and(data.byCategory.get(searchRequest.getCategory()));
+            }
+            if (searchRequest.getAnswerStatus() != null) {
+                result = result.and(data.byStatus.get(searchRequest.getAnswerStatus()));
+            }
+            if (searchRequest.getHasImage() != null) {
+                result = searchRequest.getHasImage()
+                        ? result.and(data.withImage)
+                        : result.andNot(data.withImage);
+            }
+            if (Boolean.TRUE.equals(searchRequest.getMyPostsOnly())) {
+                // 내 글만 보기 (잠금 여부와 무관)
+                CompressedBitmap owned = currentUserId != null ? data.byUser.get(currentUserId) : null;
+                result = owned != null ? result.and(owned) : new CompressedBitmap();
+            } else if (!isAdmin) {
+                // 일반 사용자는 잠금 해제된 글만 조회
+                result = result.andNot(data.locked);
+            }
+            
+            int offset = searchRequest.getPage() * searchRequest.getSize();
+            int[] ordinals = result.pageDescending(offset, searchRequest.getSize());
+            List<Long> pageIds = new ArrayList<>(ordinals.length);
+            for (int ordinal : ordinals) {
+                pageIds.add(data.ordinalToId[ordinal]);
+            }
+            return new QnaSearchIndex.SearchHits(pageIds, result.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 목록 공개 범위(내 글 / 일반 사용자는 잠금 해제 글만) 안에서 [카테고리][답변상태][잠금 0/1] 별 게시글 수
+     * 색인 생성 전이면 null
+     */
+    long[][][] countByCategoryStatusLock(boolean myPostsOnly, Long currentUserId, boolean isAdmin) {
+        if (!ready) {
+            return null;
+        }
+        QnaPost.Category[] categories = QnaPost.Category.values();
+        QnaPost.AnswerStatus[] statuses = QnaPost.AnswerStatus.values();
+        long[][][] counts = new long[categories.length][statuses.length][2];
+        
+        lock.readLock().lock();
+        try {
+            CompressedBitmap base = data.alive;
+            if (myPostsOnly) {
+                CompressedBitmap owned = currentUserId != null ? data.byUser.get(currentUserId) : null;
+                if (owned == null) {
+                    return counts;
+                }
+                base = base.and(owned);
+            } else if (!isAdmin) {
+                base = base.andNot(data.locked);
+            }
+            
+            for (QnaPost.Category category : categories) {
+                CompressedBitmap inCategory = base.and(data.byCategory.get(category));
+                for (QnaPost.AnswerStatus status : statuses) {
+                    CompressedBitmap cell = inCategory.and(data.byStatus.get(status));
+                    long total = cell.cardinality();
+                    long locked = total == 0 ? 0 : cell.and(data.locked).cardinality();
+                    counts[category.ordinal()][status.ordinal()][0] = total - locked;
+                    counts[category.ordinal()][status.ordinal()][1] = locked;
+                }
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Private helper methods
+    
+    private void apply(QnaPostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                QnaPost post = event.getPost();
+                data.upsert(post.getQnaId(), post.getUserPid(), post.getCategory(), post.getAnswerStatus(),
+                        Boolean.TRUE.equals(post.getIsLocked()), hasImage(post.getImagePath()));
+                break;
+            case DELETED:
+                data.remove(event.getQnaId());
+                break;
+            default:
+                // 답변 이벤트: 답변상태만 갱신
+                if (event.getAnswerStatus() != null) {
+                    data.updateStatus(event.getQnaId(), event.getAnswerStatus());
+                }
+        }
+    }
+    
+    private static boolean hasImage(String imagePath) {
+        return imagePath != null && !imagePath.isEmpty();
+    }
+    
+    /**
+     * 번호 할당과 속성별 비트맵 (락 안에서만 사용)
+     */
+    private static final class IndexData {
+        private long[] ordinalToId = new long[1024];
+        private long[] ordinalToUser = new long[1024];
+        private int nextOrdinal;
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        
+        private final CompressedBitmap alive = new CompressedBitmap();
+        private final CompressedBitmap locked = new CompressedBitmap();
+        private final CompressedBitmap withImage = new CompressedBitmap();
+        private final Map<QnaPost.Category, CompressedBitmap> byCategory = new EnumMap<>(QnaPost.Category.class);
+        private final Map<QnaPost.AnswerStatus, CompressedBitmap> byStatus = new EnumMap<>(QnaPost.AnswerStatus.class);
+        private final Map<Long, CompressedBitmap> byUser = new HashMap<>();
+        
+        private IndexData() {
+            for (QnaPost.Category category : QnaPost.Category.values()) {
+                byCategory.put(category, new CompressedBitmap());
+            }
+            for (QnaPost.AnswerStatus status : QnaPost.AnswerStatus.values()) {
+                byStatus.put(status, new CompressedBitmap());
+            }
+        }
+        
+        /**
+         * 새 게시글은 다음 번호를 받고, 기존 게시글은 번호를 유지한 채 속성만 갱신
+         */
+        void upsert(Long qnaId, Long userPid, QnaPost.Category category, QnaPost.AnswerStatus status,
+                    boolean isLocked, boolean hasImage) {
+            Integer existing = ordinals.get(qnaId);
+            int ordinal = existing != null ? existing : nextOrdinal++;
+            if (existing == null) {
+                if (ordinal == ordinalToId.length) {
+                    ordinalToId = Arrays.copyOf(ordinalToId, ordinalToId.length * 2);
+                    ordinalToUser = Arrays.copyOf(ordinalToUser, ordinalToUser.length * 2);
+                }
+                ordinalToId[ordinal] = qnaId;
+                ordinalToUser[ordinal] = userPid != null ? userPid : -1L;
+                ordinals.put(qnaId, ordinal);
+                alive.add(ordinal);
+            }
+            
+            byCategory.values().forEach(bitmap -> bitmap.remove(ordinal));
+            byCategory.get(category).add(ordinal);
+            setStatus(ordinal, status);
+            setFlag(locked, ordinal, isLocked);
+            setFlag(withImage, ordinal, hasImage);
+            if (userPid != null) {
+                byUser.computeIfAbsent(userPid, id -> new CompressedBitmap()).add(ordinal);
+            }
+        }
+        
+        void updateStatus(Long qnaId, QnaPost.AnswerStatus status) {
+            Integer ordinal = ordinals.get(qnaId);
+            if (ordinal != null) {
+                setStatus(ordinal.intValue(), status);
+            }
+        }
+        
+        void remove(Long qnaId) {
+            Integer removed = ordinals.remove(qnaId);
+            if (removed == null) {
+                return;
+            }
+            int ordinal = removed;
+            // 번호는 재사용하지 않음 (작성 순서 유지), 다음 재생성 시 정리됨
+            alive.remove(ordinal);
+            locked.remove(ordinal);
+            withImage.remove(ordinal);
+            byCategory.values().forEach(bitmap -> bitmap.remove(ordinal));
+            byStatus.values().forEach(bitmap -> bitmap.remove(ordinal));
+            CompressedBitmap owned = byUser.get(ordinalToUser[ordinal]);
+            if (owned != null) {
+                owned.remove(ordinal);
+                if (owned.cardinality() == 0) {
+                    byUser.remove(ordinalToUser[ordinal]);
+                }
+            }
+        }
+        
+        private void setStatus(int ordinal, QnaPost.AnswerStatus status) {
+            byStatus.values().forEach(bitmap -> bitmap.remove(ordinal));
+            byStatus.get(status != null ? status : QnaPost.AnswerStatus.답변대기).add(ordinal);
+        }
+        
+        private static void setFlag(CompressedBitmap bitmap, int ordinal, boolean value) {
+            if (value) {
+                bitmap.add(ordinal);
+            } else {
+                bitmap.remove(ordinal);
+            }
+        }
+    }
+}
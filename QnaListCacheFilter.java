@@ -0,0 +1,167 @@
+package com.act2gether.cache;
+
+import com.act2gether.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 비로그인 사용자의 GET /api/qna 응답을 QnaListResponseCache 로 처리하는 필터
+ * - 캐시 적중 시 컨트롤러/DB 를 거치지 않고 압축된 본문을 그대로 전송
+ * - 로그인 사용자, 내 글 보기 요청은 캐시하지 않음
+ * - 캐시된 ETag/Last-Modified 로 조건부 요청에 304 응답
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QnaListCacheFilter extends OncePerRequestFilter {
+
+    private static final String LIST_PATH = "/api/qna";
+    // 컨트롤러의 목록 응답과 동일 (매번 검증 후 사용)
+    private static final String CACHE_CONTROL = "private, no-cache";
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final QnaListResponseCache cache;
+    private final JwtUtil jwtUtil;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !LIST_PATH.equals(PATH_HELPER.getPathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String cacheKey = resolveCacheKey(request);
+        if (cacheKey == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        QnaListResponseCache.Entry entry = cache.get(cacheKey);
+        if (entry != null) {
+            writeCached(request, response, entry);
+            return;
+        }
+
+        long generation = cache.currentGeneration();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+                cache.put(cacheKey, wrapper.getContentAsByteArray(), generation,
+                        wrapper.getHeader(HttpHeaders.ETAG), parseDate(wrapper.getHeader(HttpHeaders.LAST_MODIFIED)));
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 정규화된 캐시 키 생성 (캐시 대상이 아니면 null)
+     */
+    private String resolveCacheKey(HttpServletRequest request) {
+        String token = jwtUtil.extractTokenFromRequest(request);
+        if (token != null && !token.isEmpty()) {
+            return null;
+        }
+        if (Boolean.parseBoolean(request.getParameter("myPostsOnly"))) {
+            return null;
+        }
+
+        Integer page = parseInt(request.getParameter("page"), 0);
+        Integer size = parseInt(request.getParameter("size"), 5);
+        if (page == null || size == null) {
+            // 잘못된 파라미터는 컨트롤러의 검증에 맡김
+            return null;
+        }
+
+        return "p=" + page
+                + "&s=" + size
+                + "&k=" + normalize(request.getParameter("keyword")).toLowerCase()
+                + "&c=" + normalize(request.getParameter("category"))
+                + "&a=" + normalize(request.getParameter("answerStatus"))
+                + "&i=" + normalize(request.getParameter("hasImage")).toLowerCase()
+                + "&o=" + normalize(request.getParameter("sort")).toLowerCase();
+    }
+
+    private void writeCached(HttpServletRequest request, HttpServletResponse response,
+                             QnaListResponseCache.Entry entry) throws IOException {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        // 클라이언트 검증값이 같으면 본문 없이 304 (ETag/Last-Modified 헤더도 여기서 설정)
+        if (entry.getETag() != null
+                && new ServletWebRequest(request, response).checkNotModified(entry.getETag(), entry.getLastModified())) {
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] gzipped = entry.getGzippedBody();
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(gzipped.length);
+            response.getOutputStream().write(gzipped);
+            return;
+        }
+
+        // gzip 을 지원하지 않는 클라이언트는 풀어서 전송
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private Integer parseInt(String value, int defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long parseDate(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private String normalize(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
@@ -0,0 +1,242 @@
+package com.act2gether.cache;
+
+import com.act2gether.event.QnaPostChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 사용자용 QnA 목록 응답 캐시
+ * 정규화된 조회 파라미터를 키로 gzip 압축된 JSON 본문을 보관한다.
+ * - TTL 이 짧고, 전체 보관 용량(byte)이 제한된 LRU
+ * - 게시글/답변 변경이 커밋되면 전체 무효화
+ */
+@Component
+@Slf4j
+public class QnaListResponseCache {
+
+    @Value("${app.qna.list-cache.ttl-seconds:10}")
+    private long ttlSeconds;
+
+    @Value("${app.qna.list-cache.max-bytes:8388608}") // 8MB
+    private long maxBytes;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    // 마지막 게시글/답변 변경 시각 (목록 Last-Modified 계산용, 재시작 직후에는 시작 시각)
+    private final AtomicLong lastChangedAt = new AtomicLong(System.currentTimeMillis());
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    public QnaListResponseCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter("qna.list.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("qna.list.cache.requests", "result", "miss");
+        this.sizeEvictions = meterRegistry.counter("qna.list.cache.evictions", "cause", "size");
+        this.expiredEvictions = meterRegistry.counter("qna.list.cache.evictions", "cause", "expired");
+        this.invalidations = meterRegistry.counter("qna.list.cache.evictions", "cause", "invalidated");
+        Gauge.builder("qna.list.cache.bytes", this, QnaListResponseCache::currentBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("qna.list.cache.entries", this, QnaListResponseCache::currentEntries)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 (만료된 항목은 제거 후 miss 처리)
+     */
+    public Entry get(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.isExpired(System.nanoTime())) {
+                removeEntry(key);
+                expiredEvictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 조회를 시작한 시점의 세대 번호
+     * 조회 도중 무효화가 일어나면 오래된 응답을 저장하지 않기 위해 사용
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 마지막 게시글/답변 변경 커밋 시각 (epoch ms)
+     * 삭제처럼 목록 행의 수정 시각에 드러나지 않는 변경도 Last-Modified 에 반영하기 위해 사용
+     */
+    public long lastChangedAt() {
+        return lastChangedAt.get();
+    }
+
+    /**
+     * 응답 본문 저장 (gzip 압축 후 보관, 조건부 요청 검증값 포함)
+     */
+    public void put(String key, byte[] body, long generationAtLoad, String eTag, long lastModified) {
+        byte[] gzipped;
+        try {
+            gzipped = gzip(body);
+        } catch (IOException e) {
+            log.warn("목록 응답 압축 실패 - 캐시 저장 생략: {}", key, e);
+            return;
+        }
+
+        long size = gzipped.length + (long) key.length() * 2;
+        if (size > maxBytes) {
+            return;
+        }
+
+        Entry entry = new Entry(gzipped, eTag, lastModified,
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds), size);
+
+        lock.lock();
+        try {
+            if (generation.get() != generationAtLoad) {
+                return;
+            }
+            removeEntry(key);
+            entries.put(key, entry);
+            totalBytes += size;
+            evictToBudget();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            if (!entries.isEmpty()) {
+                invalidations.increment(entries.size());
+            }
+            entries.clear();
+            totalBytes = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 게시글/답변 변경 커밋 후 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaPostChanged(QnaPostChangedEvent event) {
+        lastChangedAt.accumulateAndGet(System.currentTimeMillis(), Math::max);
+        invalidateAll();
+    }
+
+    // Private helper methods
+
+    private void evictToBudget() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            totalBytes -= eldest.getValue().size;
+            iterator.remove();
+            sizeEvictions.increment();
+        }
+    }
+
+    private void removeEntry(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.size;
+        }
+    }
+
+    private double currentBytes() {
+        lock.lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double currentEntries() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 캐시 항목 (gzip 압축된 본문과 ETag/Last-Modified)
+     */
+    public static class Entry {
+        private final byte[] gzippedBody;
+        private final String eTag;
+        private final long lastModified;
+        private final long expiresAtNanos;
+        private final long size;
+
+        private Entry(byte[] gzippedBody, String eTag, long lastModified, long expiresAtNanos, long size) {
+            this.gzippedBody = gzippedBody;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.expiresAtNanos = expiresAtNanos;
+            this.size = size;
+        }
+
+        public byte[] getGzippedBody() {
+            return gzippedBody;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.act2gether.event;
+
+import com.act2gether.entity.QnaPost;
+import com.act2gether.search.QnaSearchIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * QnA 실시간 이벤트 스트림 (Server-Sent Events)
+ * - 게시글 등록, 답변 등록, 답변상태 변경, 게시글 삭제를 구독자에게 전송
+ * - 구독자마다 열람 권한을 확인해 볼 수 있는 게시글의 이벤트만 전송 (QnaPost.canView 와 동일한 규칙)
+ * - 이벤트는 한 번만 JSON 으로 직렬화하고, 구독자별 고정 크기 큐에 넣은 뒤 전송 스레드가 비동기로 보냄
+ *   (커밋 후 리스너 스레드는 소켓 쓰기를 기다리지 않음)
+ * - 큐가 가득 찬 느린 구독자는 밀린 이벤트를 버리고 resync 이벤트 하나로 대체해 클라이언트가 목록을 다시 읽게 함
+ * - 전송 하나가 write-timeout-ms 를 넘기면 그 구독자를 종료하고, 소켓 쓰기에 묶인 스레드 대신 전송 스레드를 하나 보충
+ *   (묶인 스레드는 컨테이너의 소켓 쓰기 타임아웃으로 풀린 뒤 반납, 멈춘 클라이언트가 다른 구독자 전송을 막지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QnaLiveEventBroadcaster {
+
+    public static final String POST_CREATED = "post-created";
+    public static final String POST_DELETED = "post-deleted";
+    public static final String REPLY_CREATED = "reply-created";
+    public static final String STATUS_CHANGED = "status-changed";
+    public static final String RESYNC = "resync";
+
+    private static final Message RESYNC_MESSAGE = new Message(RESYNC, "{}");
+    private static final Message HEARTBEAT_MESSAGE = new Message(null, "heartbeat");
+    // 전송 시작 시각 대신 기록해 제한 시간 초과로 종료된 전송임을 표시
+    private static final long STALLED = -1L;
+
+    private final QnaSearchIndex qnaSearchIndex;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.qna.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.qna.sse.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${app.qna.sse.max-subscribers:2000}")
+    private int maxSubscribers;
+
+    @Value("${app.qna.sse.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${app.qna.sse.write-timeout-ms:5000}")
+    private long writeTimeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ThreadPoolExecutor sender;
+
+    // 제한 시간을 넘겨 소켓 쓰기에 묶여 있는 전송 스레드 수 (그만큼 풀 크기를 늘림)
+    private final ReentrantLock senderResizeLock = new ReentrantLock();
+    private int stalledSenders;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = new ThreadPoolExecutor(senderThreads, senderThreads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "qna-sse-sender-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscribers.forEach(Subscriber::close);
+        sender.shutdownNow();
+    }
+
+    /**
+     * 구독 등록 (최대 구독자 수를 넘으면 null)
+     */
+    public SseEmitter subscribe(Long userId, boolean isAdmin) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            log.warn("QnA 실시간 스트림 구독 거부 - 최대 구독자 수 초과: {}", maxSubscribers);
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, userId, isAdmin, bufferSize);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+
+        // 연결 직후 헤더와 첫 바이트를 내보내 프록시가 응답을 붙잡지 않도록 함
+        subscriber.offer(HEARTBEAT_MESSAGE);
+        log.debug("QnA 실시간 스트림 구독 - 사용자 ID: {}, 구독자 수: {}", userId, subscriberCount.get());
+        return emitter;
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 게시글/답변 변경 커밋 후 구독자에게 전송
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaPostChanged(QnaPostChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        switch (event.getType()) {
+            case CREATED:
+                broadcastCreated(event.getPost());
+                break;
+            case DELETED:
+                broadcast(message(POST_DELETED, Map.of("qnaId", event.getQnaId())), subscriber -> true);
+                break;
+            case REPLY_CREATED:
+                Map<String, Object> payload = new LinkedHashMap<>();
+                payload.put("qnaId", event.getQnaId());
+                payload.put("answerStatus", event.getAnswerStatus());
+                payload.put("reply", event.getReply());
+                broadcastToViewers(event.getQnaId(), message(REPLY_CREATED, payload));
+                break;
+            case REPLY_DELETED:
+                if (event.getAnswerStatus() != null) {
+                    broadcastToViewers(event.getQnaId(), message(STATUS_CHANGED, Map.of(
+                            "qnaId", event.getQnaId(), "answerStatus", event.getAnswerStatus())));
+                }
+                break;
+            default:
+                // 게시글/답변 수정은 전송하지 않음 (상세를 다시 열 때 반영)
+        }
+    }
+
+    /**
+     * 연결 유지용 주석 전송 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${app.qna.sse.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT_MESSAGE));
+    }
+
+    /**
+     * 전송이 write-timeout-ms 를 넘긴 구독자 종료 후 전송 스레드 보충
+     */
+    @Scheduled(fixedDelayString = "${app.qna.sse.write-timeout-ms:5000}")
+    public void expireStalledSends() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt.get();
+            // 전송 스레드가 먼저 끝나 시각을 지웠으면 CAS 가 실패하므로 정상 종료된 전송은 건드리지 않음
+            if (started > 0 && now - started > writeTimeoutMs
+                    && subscriber.sendStartedAt.compareAndSet(started, STALLED)) {
+                log.warn("QnA 실시간 스트림 전송 지연, 연결 종료 - 사용자 ID: {}, 경과: {}ms",
+                        subscriber.userId, now - started);
+                subscriber.close();
+                resizeSender(1);
+            }
+        }
+    }
+
+    // Private helper methods
+
+    /**
+     * 묶인 전송 스레드 수만큼 풀 크기 조정 (늘릴 때는 최대값 먼저, 줄일 때는 기본값 먼저)
+     */
+    private void resizeSender(int delta) {
+        senderResizeLock.lock();
+        try {
+            stalledSenders += delta;
+            int size = senderThreads + stalledSenders;
+            if (delta > 0) {
+                sender.setMaximumPoolSize(size);
+                sender.setCorePoolSize(size);
+            } else {
+                sender.setCorePoolSize(size);
+                sender.setMaximumPoolSize(size);
+            }
+        } finally {
+            senderResizeLock.unlock();
+        }
+    }
+
+    private void broadcastCreated(QnaPost post) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("qnaId", post.getQnaId());
+        payload.put("userPid", post.getUserPid());
+        payload.put("category", post.getCategory());
+        payload.put("title", post.getTitle());
+        payload.put("answerStatus", post.getAnswerStatus());
+        payload.put("isLocked", post.getIsLocked());
+        payload.put("hasImage", post.getImagePath() != null && !post.getImagePath().isEmpty());
+        payload.put("createdAt", post.getCreatedAt());
+        Message message = message(POST_CREATED, payload);
+
+        boolean locked = Boolean.TRUE.equals(post.getIsLocked());
+        Long ownerId = post.getUserPid();
+        broadcast(message, subscriber -> subscriber.isAdmin || !locked
+                || (ownerId != null && ownerId.equals(subscriber.userId)));
+    }
+
+    private void broadcastToViewers(Long qnaId, Message message) {
+        broadcast(message, subscriber -> qnaSearchIndex.isVisibleTo(qnaId, subscriber.userId, subscriber.isAdmin));
+    }
+
+    private void broadcast(Message message, Predicate<Subscriber> canReceive) {
+        if (message == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (canReceive.test(subscriber)) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    private Message message(String name, Object payload) {
+        try {
+            return new Message(name, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            log.error("QnA 실시간 이벤트 직렬화 실패 - 이벤트: {}", name, e);
+            return null;
+        }
+    }
+
+    /**
+     * 직렬화된 이벤트 (name 이 null 이면 SSE 주석)
+     */
+    private static final class Message {
+        private final String name;
+        private final String data;
+
+        private Message(String name, String data) {
+            this.name = name;
+            this.data = data;
+        }
+
+        // SseEventBuilder 는 전송 시 내부 상태가 바뀌므로 구독자마다 새로 만든다
+        SseEmitter.SseEventBuilder toEvent() {
+            return name == null
+                    ? SseEmitter.event().comment(data)
+                    : SseEmitter.event().name(name).data(data);
+        }
+    }
+
+    /**
+     * 구독자 연결과 전송 대기 큐
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long userId;
+        private final boolean isAdmin;
+        private final ArrayBlockingQueue<Message> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 진행 중인 전송의 시작 시각 (0 이면 전송 중 아님, STALLED 면 제한 시간 초과로 종료됨)
+        private final AtomicLong sendStartedAt = new AtomicLong();
+
+        private Subscriber(SseEmitter emitter, Long userId, boolean isAdmin, int capacity) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.isAdmin = isAdmin;
+            this.queue = new ArrayBlockingQueue<>(Math.max(2, capacity));
+        }
+
+        void offer(Message message) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                // 느린 구독자: 밀린 이벤트를 버리고 전체 갱신 요청으로 대체
+                queue.clear();
+                queue.offer(RESYNC_MESSAGE);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            boolean stalled = false;
+            boolean failed = false;
+            try {
+                Message message;
+                while (!closed.get() && (message = queue.poll()) != null) {
+                    sendStartedAt.set(System.currentTimeMillis());
+                    try {
+                        emitter.send(message.toEvent());
+                    } finally {
+                        stalled = sendStartedAt.getAndSet(0L) == STALLED;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("QnA 실시간 스트림 전송 실패, 연결 종료 - 사용자 ID: {}", userId);
+                close();
+                emitter.completeWithError(e);
+                failed = true;
+            } finally {
+                draining.set(false);
+            }
+            if (stalled) {
+                // 제한 시간을 넘긴 전송이 늦게 끝남: 보충했던 스레드를 반납하고 연결 종료
+                resizeSender(-1);
+                if (!failed) {
+                    emitter.complete();
+                }
+                return;
+            }
+            // drain 종료와 offer 사이에 들어온 이벤트 처리
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                subscriberCount.decrementAndGet();
+                queue.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.act2gether.service;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.entity.QnaPost;
+import com.act2gether.entity.QnaReply;
+import com.act2gether.event.QnaPostChangedEvent;
+import com.act2gether.repository.QnaPostRepository;
+import com.act2gether.repository.QnaReplyRepository;
+import com.act2gether.util.FileUploadUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 관리자 일괄 처리 (답변/잠금/잠금 해제/카테고리 변경/삭제)
+ * - 대상 게시글을 chunk-size 단위로 나눠 chunk 마다 하나의 트랜잭션에서 JDBC 배치로 처리
+ * - 한 chunk 가 실패해도 다른 chunk 는 계속 처리하고, 항목별 결과를 반환
+ * - 삭제된 게시글의 이미지 파일은 해당 chunk 커밋 후에 삭제
+ * JDBC 로 직접 변경하므로 커밋 후 2차 캐시를 제거하고, 변경 이벤트로 색인/목록 캐시를 갱신한다.
+ */
+@Service
+@Slf4j
+public class QnaModerationService {
+    
+    private static final String UPDATE_LOCK_SQL = "UPDATE qna_posts SET 잠금여부 = ?, 업데이트날 = ?, 버전 = 버전 + 1 WHERE qna_id = ?";
+    private static final String UPDATE_CATEGORY_SQL = "UPDATE qna_posts SET 카테고리 = ?, 업데이트날 = ?, 버전 = 버전 + 1 WHERE qna_id = ?";
+    private static final String UPDATE_ANSWER_STATUS_SQL = "UPDATE qna_posts SET 답변상태 = ?, 업데이트날 = ?, 버전 = 버전 + 1 WHERE qna_id = ?";
+    private static final String DELETE_REPLIES_SQL = "DELETE FROM qna_replies WHERE qna_id = ?";
+    private static final String DELETE_POST_SQL = "DELETE FROM qna_posts WHERE qna_id = ?";
+    private static final String REPLIES_ROLE = QnaPost.class.getName() + ".replies";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final QnaPostRepository qnaPostRepository;
+    private final QnaReplyRepository qnaReplyRepository;
+    private final FileUploadUtil fileUploadUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int chunkSize;
+    
+    public QnaModerationService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                QnaPostRepository qnaPostRepository,
+                                QnaReplyRepository qnaReplyRepository,
+                                FileUploadUtil fileUploadUtil,
+                                ApplicationEventPublisher eventPublisher,
+                                EntityManagerFactory entityManagerFactory,
+                                @Value("${app.qna.bulk.chunk-size:100}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.qnaPostRepository = qnaPostRepository;
+        this.qnaReplyRepository = qnaReplyRepository;
+        this.fileUploadUtil = fileUploadUtil;
+        this.eventPublisher = eventPublisher;
+        this.entityManagerFactory = entityManagerFactory;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+    
+    /**
+     * 일괄 처리 실행 (요청 순서대로 항목별 결과 반환)
+     */
+    public List<QnaPostDTO.BulkItemResult> moderate(QnaPostDTO.BulkModerationRequest request, Long adminUserId, boolean isAdmin) {
+        // 관리자 권한 확인
+        if (!isAdmin) {
+            throw new IllegalArgumentException("일괄 처리 권한이 없습니다.");
+        }
+        validate(request);
+        
+        List<Long> qnaIds = new ArrayList<>(new LinkedHashSet<>(request.getQnaIds()));
+        List<QnaPostDTO.BulkItemResult> results = new ArrayList<>(qnaIds.size());
+        
+        for (int from = 0; from < qnaIds.size(); from += chunkSize) {
+            List<Long> chunk = qnaIds.subList(from, Math.min(from + chunkSize, qnaIds.size()));
+            List<String> imagePaths = new ArrayList<>();
+            List<Long> deletedReplyIds = new ArrayList<>();
+            try {
+                results.addAll(transactionTemplate.execute(
+                        status -> applyChunk(request, chunk, adminUserId, imagePaths, deletedReplyIds)));
+            } catch (RuntimeException e) {
+                log.error("일괄 처리 실패 - 작업: {}, 대상: {}", request.getAction(), chunk, e);
+                chunk.forEach(qnaId -> results.add(
+                        new QnaPostDTO.BulkItemResult(qnaId, false, "처리 중 오류가 발생했습니다.")));
+                continue;
+            }
+            
+            // 커밋 이후 처리
+            evictSecondLevelCache(chunk, deletedReplyIds);
+            deleteFiles(imagePaths);
+        }
+        
+        long succeeded = results.stream().filter(QnaPostDTO.BulkItemResult::isSuccess).count();
+        log.info("일괄 처리 완료 - 작업: {}, 관리자 ID: {}, 성공: {}/{}",
+                request.getAction(), adminUserId, succeeded, results.size());
+        return results;
+    }
+    
+    // Private helper methods
+    
+    private void validate(QnaPostDTO.BulkModerationRequest request) {
+        if (request.getAction() == QnaPostDTO.BulkAction.RECATEGORIZE && request.getCategory() == null) {
+            throw new IllegalArgumentException("변경할 카테고리를 선택해주세요.");
+        }
+        if (request.getAction() == QnaPostDTO.BulkAction.ANSWER
+                && (request.getReplyContent() == null || request.getReplyContent().trim().isEmpty())) {
+            throw new IllegalArgumentException("답변 내용은 필수입니다.");
+        }
+    }
+    
+    /**
+     * chunk 하나를 현재 트랜잭션에서 처리
+     * 존재하는 게시글을 먼저 한 번에 조회(행 잠금)해 그 ID 만 변경하고, 결과도 이 집합으로 판단한다.
+     * (rewriteBatchedStatements 사용 시 배치 건별 결과가 SUCCESS_NO_INFO 로 와서 존재 여부를 알 수 없음)
+     */
+    private List<QnaPostDTO.BulkItemResult> applyChunk(QnaPostDTO.BulkModerationRequest request, List<Long> chunk,
+                                                       Long adminUserId, List<String> imagePaths,
+                                                       List<Long> deletedReplyIds) {
+        Map<Long, String> existing = lockExistingPosts(chunk);
+        List<Long> targets = new ArrayList<>(existing.size());
+        for (Long qnaId : chunk) {
+            if (existing.containsKey(qnaId)) {
+                targets.add(qnaId);
+            }
+        }
+        
+        if (!targets.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            switch (request.getAction()) {
+                case LOCK:
+                case UNLOCK:
+                    boolean locked = request.getAction() == QnaPostDTO.BulkAction.LOCK;
+                    batchUpdate(UPDATE_LOCK_SQL, targets, qnaId -> new Object[]{locked, now, qnaId});
+                    break;
+                case RECATEGORIZE:
+                    batchUpdate(UPDATE_CATEGORY_SQL, targets,
+                            qnaId -> new Object[]{request.getCategory().name(), now, qnaId});
+                    break;
+                case ANSWER:
+                    batchUpdate(UPDATE_ANSWER_STATUS_SQL, targets,
+                            qnaId -> new Object[]{QnaPost.AnswerStatus.답변완료.name(), now, qnaId});
+                    break;
+                case DELETE:
+                    // 삭제할 답변 ID 는 같은 트랜잭션에서 잠가 두고 커밋 후 2차 캐시에서 한 건씩 제거
+                    deletedReplyIds.addAll(lockReplyIds(targets));
+                    batchUpdate(DELETE_REPLIES_SQL, targets, qnaId -> new Object[]{qnaId});
+                    batchUpdate(DELETE_POST_SQL, targets, qnaId -> new Object[]{qnaId});
+                    break;
+                default:
+                    throw new IllegalArgumentException("지원하지 않는 작업입니다: " + request.getAction());
+            }
+        }
+        
+        List<QnaPostDTO.BulkItemResult> results = new ArrayList<>(chunk.size());
+        for (Long qnaId : chunk) {
+            boolean affected = existing.containsKey(qnaId);
+            results.add(new QnaPostDTO.BulkItemResult(
+                    qnaId, affected, affected ? "처리되었습니다." : "게시글을 찾을 수 없습니다."));
+        }
+        
+        publishChanges(request, targets, adminUserId, existing, imagePaths);
+        return results;
+    }
+    
+    /**
+     * 처리된 게시글의 후속 작업 (답변 저장, 변경 이벤트 발행, 삭제할 파일 수집)
+     */
+    private void publishChanges(QnaPostDTO.BulkModerationRequest request, List<Long> succeeded, Long adminUserId,
+                                Map<Long, String> chunkImagePaths, List<String> imagePaths) {
+        if (succeeded.isEmpty()) {
+            return;
+        }
+        switch (request.getAction()) {
+            case ANSWER:
+                // 답변은 엔티티로 저장 (테이블 기반 ID 할당 + Hibernate 배치 insert)
+                List<QnaReply> replies = new ArrayList<>(succeeded.size());
+                for (Long qnaId : succeeded) {
+                    replies.add(QnaReply.builder()
+                            .qnaId(qnaId)
+                            .adminUserPid(adminUserId)
+                            .replyContent(request.getReplyContent())
+                            .build());
+                }
+                qnaReplyRepository.saveAll(replies);
+                succeeded.forEach(qnaId -> eventPublisher.publishEvent(QnaPostChangedEvent.reply(
+                        QnaPostChangedEvent.Type.REPLY_CREATED, qnaId, QnaPost.AnswerStatus.답변완료)));
+                break;
+            case DELETE:
+                for (Long qnaId : succeeded) {
+                    String imagePath = chunkImagePaths.get(qnaId);
+                    if (imagePath != null && !imagePath.isEmpty()) {
+                        imagePaths.add(imagePath);
+                    }
+                    eventPublisher.publishEvent(QnaPostChangedEvent.deleted(qnaId));
+                }
+                break;
+            default:
+                // 잠금/카테고리 변경: 변경된 게시글을 한 번에 다시 읽어 이벤트 발행
+                qnaPostRepository.findByQnaIdIn(succeeded)
+                        .forEach(post -> eventPublisher.publishEvent(QnaPostChangedEvent.updated(post)));
+        }
+    }
+    
+    private int[] batchUpdate(String sql, List<Long> chunk, Function<Long, Object[]> arguments) {
+        List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+        for (Long qnaId : chunk) {
+            batchArgs.add(arguments.apply(qnaId));
+        }
+        return jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+    
+    /**
+     * chunk 중 존재하는 게시글 ID 와 이미지 경로 (트랜잭션 끝까지 행 잠금)
+     */
+    private Map<Long, String> lockExistingPosts(List<Long> chunk) {
+        String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+        Map<Long, String> existing = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT qna_id, 이미지경로 FROM qna_posts WHERE qna_id IN (" + placeholders + ") FOR UPDATE",
+                rs -> {
+                    existing.put(rs.getLong(1), rs.getString(2));
+                },
+                chunk.toArray());
+        return existing;
+    }
+    
+    /**
+     * 삭제 대상 게시글들의 답변 ID (트랜잭션 끝까지 행 잠금)
+     */
+    private List<Long> lockReplyIds(List<Long> qnaIds) {
+        String placeholders = String.join(", ", Collections.nCopies(qnaIds.size(), "?"));
+        return jdbcTemplate.queryForList(
+                "SELECT 답변_id FROM qna_replies WHERE qna_id IN (" + placeholders + ") FOR UPDATE",
+                Long.class,
+                qnaIds.toArray());
+    }
+    
+    private void evictSecondLevelCache(List<Long> chunk, List<Long> deletedReplyIds) {
+        javax.persistence.Cache cache = entityManagerFactory.getCache();
+        org.hibernate.Cache hibernateCache = cache.unwrap(org.hibernate.Cache.class);
+        for (Long qnaId : chunk) {
+            cache.evict(QnaPost.class, qnaId);
+            hibernateCache.evictCollectionData(REPLIES_ROLE, qnaId);
+        }
+        for (Long replyId : deletedReplyIds) {
+            cache.evict(QnaReply.class, replyId);
+        }
+    }
+    
+    private void deleteFiles(List<String> imagePaths) {
+        for (String imagePath : imagePaths) {
+            try {
+                fileUploadUtil.deleteFile(imagePath);
+            } catch (Exception e) {
+                log.warn("이미지 파일 삭제 실패: " + imagePath, e);
+            }
+        }
+    }
+}
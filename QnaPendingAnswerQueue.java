@@ -0,0 +1,283 @@
+package com.act2gether.service;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.entity.QnaPost;
+import com.act2gether.event.QnaPostChangedEvent;
+import com.act2gether.repository.QnaPostPendingView;
+import com.act2gether.repository.QnaPostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관리자용 답변 대기 작업 큐
+ * - 답변대기 게시글을 오래된 순(카테고리별 / 전체)으로 보관
+ * - 관리자는 게시글을 시간 제한 lease 로 할당받아 다른 관리자와 겹치지 않게 처리
+ *   (할당/반납은 lease 참조의 CAS 로 처리, 락 없음)
+ * - 건수는 카운터로 유지하므로 현황 조회는 O(1) (COUNT 쿼리 불필요)
+ * 애플리케이션 시작 시 DB 에서 생성하고, 이후에는 게시글/답변 변경 이벤트로 갱신한다.
+ */
+@Component
+@Slf4j
+public class QnaPendingAnswerQueue {
+    
+    private static final Comparator<PendingItem> BY_AGE =
+            Comparator.comparing((PendingItem item) -> item.createdAt)
+                    .thenComparingLong(item -> item.qnaId);
+    
+    // 큐에서 제거된 게시글 표시 (이후 할당 시도는 모두 실패)
+    private static final Lease REMOVED = new Lease(null, Long.MAX_VALUE);
+    
+    private final QnaPostRepository qnaPostRepository;
+    private final long leaseMillis;
+    
+    private final ConcurrentHashMap<Long, PendingItem> items = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<PendingItem> all = new ConcurrentSkipListSet<>(BY_AGE);
+    private final Map<QnaPost.Category, ConcurrentSkipListSet<PendingItem>> byCategory =
+            new EnumMap<>(QnaPost.Category.class);
+    private final Map<QnaPost.Category, AtomicLong> categoryCounts = new EnumMap<>(QnaPost.Category.class);
+    private final AtomicLong leasedCount = new AtomicLong();
+    
+    // 큐 생성 중 도착한 변경 이벤트 (생성 완료 후 순서대로 재적용)
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private final List<QnaPostChangedEvent> pendingEvents = new ArrayList<>();
+    private volatile boolean ready;
+    
+    public QnaPendingAnswerQueue(QnaPostRepository qnaPostRepository,
+                                 @Value("${app.qna.pending-queue.lease-seconds:600}") long leaseSeconds) {
+        this.qnaPostRepository = qnaPostRepository;
+        this.leaseMillis = leaseSeconds * 1000L;
+        for (QnaPost.Category category : QnaPost.Category.values()) {
+            byCategory.put(category, new ConcurrentSkipListSet<>(BY_AGE));
+            categoryCounts.put(category, new AtomicLong());
+        }
+    }
+    
+    /**
+     * DB 의 답변대기 게시글로 큐 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<QnaPostPendingView> pending = qnaPostRepository.findByAnswerStatus(QnaPost.AnswerStatus.답변대기);
+        
+        buildLock.lock();
+        try {
+            for (QnaPostPendingView view : pending) {
+                add(view.getQnaId(), view.getCategory(), view.getCreatedAt());
+            }
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            ready = true;
+        } finally {
+            buildLock.unlock();
+        }
+        log.info("답변 대기 작업 큐 생성 완료 - 게시글: {}", items.size());
+    }
+    
+    /**
+     * 게시글/답변 변경 커밋 후 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaPostChanged(QnaPostChangedEvent event) {
+        if (!ready) {
+            buildLock.lock();
+            try {
+                if (!ready) {
+                    pendingEvents.add(event);
+                    return;
+                }
+            } finally {
+                buildLock.unlock();
+            }
+        }
+        apply(event);
+    }
+    
+    /**
+     * 오래된 순으로 최대 count 건 할당 (category 가 null 이면 전체)
+     */
+    public List<QnaPostDTO.PendingClaim> claim(Long adminUserId, QnaPost.Category category, int count) {
+        NavigableSet<PendingItem> source = category != null ? byCategory.get(category) : all;
+        long now = System.currentTimeMillis();
+        List<QnaPostDTO.PendingClaim> claims = new ArrayList<>(count);
+        
+        for (PendingItem item : source) {
+            if (claims.size() >= count) {
+                break;
+            }
+            Lease lease = new Lease(adminUserId, now + leaseMillis);
+            if (item.tryClaim(lease, now)) {
+                claims.add(new QnaPostDTO.PendingClaim(item.qnaId, item.category, item.createdAt,
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(lease.expiresAt), ZoneId.systemDefault())));
+            }
+        }
+        return claims;
+    }
+    
+    /**
+     * 할당 반납 (본인이 할당받은 경우만)
+     */
+    public boolean release(Long adminUserId, Long qnaId) {
+        PendingItem item = items.get(qnaId);
+        if (item == null) {
+            return false;
+        }
+        Lease current = item.lease.get();
+        if (current == null || !adminUserId.equals(current.adminUserId)) {
+            return false;
+        }
+        if (item.lease.compareAndSet(current, null)) {
+            leasedCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * 현황 (카운터 값만 읽으므로 O(1))
+     */
+    public QnaPostDTO.PendingStats getStats() {
+        Map<QnaPost.Category, Long> counts = new EnumMap<>(QnaPost.Category.class);
+        long total = 0;
+        for (Map.Entry<QnaPost.Category, AtomicLong> entry : categoryCounts.entrySet()) {
+            long value = entry.getValue().get();
+            counts.put(entry.getKey(), value);
+            total += value;
+        }
+        return new QnaPostDTO.PendingStats(total, counts, leasedCount.get());
+    }
+    
+    /**
+     * 만료된 lease 정리 (할당 시에도 만료 lease 는 덮어쓰므로 현황 건수 보정용)
+     */
+    @Scheduled(fixedDelayString = "${app.qna.pending-queue.sweep-interval-ms:30000}")
+    public void expireLeases() {
+        long now = System.currentTimeMillis();
+        for (PendingItem item : items.values()) {
+            Lease current = item.lease.get();
+            if (current != null && current.expiresAt <= now && item.lease.compareAndSet(current, null)) {
+                leasedCount.decrementAndGet();
+            }
+        }
+    }
+    
+    // Private helper methods
+    
+    private void apply(QnaPostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                QnaPost post = event.getPost();
+                if (post.getAnswerStatus() == QnaPost.AnswerStatus.답변대기) {
+                    add(post.getQnaId(), post.getCategory(), post.getCreatedAt());
+                } else {
+                    remove(post.getQnaId());
+                }
+                break;
+            case DELETED:
+                remove(event.getQnaId());
+                break;
+            default:
+                if (event.getAnswerStatus() == QnaPost.AnswerStatus.답변완료) {
+                    remove(event.getQnaId());
+                } else if (event.getAnswerStatus() == QnaPost.AnswerStatus.답변대기) {
+                    // 마지막 답변 삭제로 다시 대기 상태가 된 게시글
+                    qnaPostRepository.findById(event.getQnaId())
+                            .ifPresent(reopened -> add(reopened.getQnaId(), reopened.getCategory(), reopened.getCreatedAt()));
+                }
+        }
+    }
+    
+    private void add(Long qnaId, QnaPost.Category category, LocalDateTime createdAt) {
+        PendingItem existing = items.get(qnaId);
+        if (existing != null) {
+            if (existing.category == category) {
+                return;
+            }
+            // 카테고리 변경: 다시 등록 (진행 중인 lease 는 유지하지 않음)
+            remove(qnaId);
+        }
+        PendingItem item = new PendingItem(qnaId, category, createdAt != null ? createdAt : LocalDateTime.now());
+        if (items.putIfAbsent(qnaId, item) == null) {
+            all.add(item);
+            byCategory.get(category).add(item);
+            categoryCounts.get(category).incrementAndGet();
+        }
+    }
+    
+    private void remove(Long qnaId) {
+        PendingItem item = items.remove(qnaId);
+        if (item == null) {
+            return;
+        }
+        all.remove(item);
+        byCategory.get(item.category).remove(item);
+        categoryCounts.get(item.category).decrementAndGet();
+        Lease previous = item.lease.getAndSet(REMOVED);
+        if (previous != null && previous != REMOVED) {
+            leasedCount.decrementAndGet();
+        }
+    }
+    
+    /**
+     * 답변 대기 게시글 (lease 는 CAS 로만 변경)
+     */
+    private final class PendingItem {
+        private final long qnaId;
+        private final QnaPost.Category category;
+        private final LocalDateTime createdAt;
+        private final AtomicReference<Lease> lease = new AtomicReference<>();
+        
+        private PendingItem(long qnaId, QnaPost.Category category, LocalDateTime createdAt) {
+            this.qnaId = qnaId;
+            this.category = category;
+            this.createdAt = createdAt;
+        }
+        
+        /**
+         * 비어 있거나 만료된 lease 를 새 lease 로 교체
+         */
+        boolean tryClaim(Lease newLease, long now) {
+            Lease current = lease.get();
+            if (current != null && current.expiresAt > now) {
+                return false;
+            }
+            if (!lease.compareAndSet(current, newLease)) {
+                return false;
+            }
+            if (current == null) {
+                leasedCount.incrementAndGet();
+            }
+            return true;
+        }
+    }
+    
+    private static final class Lease {
+        private final Long adminUserId;
+        private final long expiresAt;
+        
+        private Lease(Long adminUserId, long expiresAt) {
+            this.adminUserId = adminUserId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,25 +1,44 @@
 package com.act2gether.entity;
 
+import com.act2gether.config.PooledTableIdGenerator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "qna_posts")
+@Table(name = "qna_posts", indexes = {
+        // 목록/검색 조건 조합(QnaPostSpecification)용 인덱스
+        @Index(name = "idx_qna_posts_locked_created", columnList = "잠금여부, 생성날"),
+        @Index(name = "idx_qna_posts_category_status_created", columnList = "카테고리, 답변상태, 생성날"),
+        @Index(name = "idx_qna_posts_user_created", columnList = "유저_pid, 생성날")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = QnaPost.CACHE_REGION)
 public class QnaPost {
     
+    // 2차 캐시 영역 이름 (HibernateConfig 에서 영역별 크기 제한)
+    public static final String CACHE_REGION = "qna_posts";
+    public static final String REPLIES_CACHE_REGION = "qna_posts.replies";
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "qna_post_id")
+    @GenericGenerator(name = "qna_post_id", strategy = PooledTableIdGenerator.STRATEGY,
+            parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "qna_posts"))
     @Column(name = "qna_id")
     private Long qnaId;
     
@@ -62,12 +81,20 @@ public class QnaPost {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
     
+    // 낙관적 잠금 버전 (수정 시 If-Match 로 비교, 기존 행은 0 으로 시작)
+    // 새 엔티티는 null 로 두어 save() 가 persist 로 처리되도록 함
+    @Version
+    @Column(name = "버전", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+    
     // 연관관계 매핑
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "유저_pid", insertable = false, updatable = false)
     private User user;
     
     @OneToMany(mappedBy = "qnaPost", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OrderBy("createdAt ASC, replyId ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = QnaPost.REPLIES_CACHE_REGION)
     private List<QnaReply> replies;
     
     // Enum 정의
@@ -90,9 +117,14 @@ public class QnaPost {
     }
     
     public boolean canView(Long userId, boolean isAdmin) {
+        return canView(isLocked, userPid, userId, isAdmin);
+    }
+    
+    // 엔티티를 로딩하지 않는 조회 경로(검증값 조회, 리액티브 조회)에서 같은 규칙을 쓰기 위한 정적 버전
+    public static boolean canView(Boolean isLocked, Long ownerPid, Long userId, boolean isAdmin) {
         if (isAdmin) return true;
-        if (!isLocked) return true;
-        return isOwner(userId);
+        if (!Boolean.TRUE.equals(isLocked)) return true;
+        return ownerPid != null && ownerPid.equals(userId);
     }
     
     public void incrementViewCount() {
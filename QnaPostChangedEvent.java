@@ -0,0 +1,60 @@
+package com.act2gether.event;
+
+import com.act2gether.dto.QnaReplyDTO;
+import com.act2gether.entity.QnaPost;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * QnA 게시글/답변 변경 이벤트
+ * 서비스 쓰기 경로에서 발행되며, 캐시 등은 트랜잭션 커밋 이후에 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class QnaPostChangedEvent {
+    
+    public enum Type {
+        CREATED, UPDATED, DELETED, REPLY_CREATED, REPLY_UPDATED, REPLY_DELETED
+    }
+    
+    private final Type type;
+    private final Long qnaId;
+    
+    // 변경된 게시글 (답변 이벤트에서는 null)
+    private final QnaPost post;
+    
+    // 답변 이벤트로 바뀐 게시글 답변상태 (변경 없으면 null)
+    private final QnaPost.AnswerStatus answerStatus;
+    
+    // 생성된 답변 (REPLY_CREATED 에서만, 실시간 스트림 전송용)
+    private final QnaReplyDTO.Response reply;
+    
+    public static QnaPostChangedEvent created(QnaPost post) {
+        return new QnaPostChangedEvent(Type.CREATED, post.getQnaId(), post, post.getAnswerStatus(), null);
+    }
+    
+    public static QnaPostChangedEvent updated(QnaPost post) {
+        return new QnaPostChangedEvent(Type.UPDATED, post.getQnaId(), post, post.getAnswerStatus(), null);
+    }
+    
+    public static QnaPostChangedEvent deleted(QnaPost post) {
+        return new QnaPostChangedEvent(Type.DELETED, post.getQnaId(), post, null, null);
+    }
+    
+    public static QnaPostChangedEvent deleted(Long qnaId) {
+        return new QnaPostChangedEvent(Type.DELETED, qnaId, null, null, null);
+    }
+    
+    public static QnaPostChangedEvent reply(Type type, Long qnaId, QnaPost.AnswerStatus answerStatus) {
+        return new QnaPostChangedEvent(type, qnaId, null, answerStatus, null);
+    }
+    
+    public static QnaPostChangedEvent replyCreated(QnaReplyDTO.Response reply, QnaPost.AnswerStatus answerStatus) {
+        return new QnaPostChangedEvent(Type.REPLY_CREATED, reply.getQnaId(), null, answerStatus, reply);
+    }
+    
+    public boolean isReplyEvent() {
+        return type == Type.REPLY_CREATED || type == Type.REPLY_UPDATED || type == Type.REPLY_DELETED;
+    }
+}
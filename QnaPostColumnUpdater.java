@@ -0,0 +1,35 @@
+package com.act2gether.repository;
+
+import com.act2gether.entity.QnaPost;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 게시글 부분 수정 (지정한 컬럼만 SET 하는 단일 조건부 UPDATE)
+ * SecureQnaPostRepository 에 fragment 로 포함된다.
+ */
+public interface QnaPostColumnUpdater {
+    
+    // 버전 조건 없이 수정할 때 expectedVersion 값
+    long ANY_VERSION = -1L;
+    
+    /**
+     * changes 의 속성만 수정하고 업데이트날/버전을 함께 갱신
+     * 작성자(관리자는 제외)와 버전이 조건에 맞지 않으면 0 을 반환한다.
+     *
+     * @param changes         엔티티 속성명 -> 새 값 (null 이면 NULL 로 설정)
+     * @param expectedVersion 기대 버전 (ANY_VERSION 이면 버전 조건 없음)
+     */
+    int updateColumns(Long qnaId, Map<String, Object> changes, Long userId, boolean isAdmin, long expectedVersion);
+    
+    /**
+     * 답변 등록 시 답변상태 변경 (게시글을 로딩하지 않는 단일 UPDATE, 0 이면 게시글 없음)
+     */
+    int updateAnswerStatus(Long qnaId, QnaPost.AnswerStatus status, LocalDateTime now);
+    
+    /**
+     * 남은 답변이 없을 때만 답변상태 변경 (확인과 변경을 하나의 조건부 UPDATE 로 처리)
+     */
+    int updateAnswerStatusIfNoReplies(Long qnaId, QnaPost.AnswerStatus status, LocalDateTime now);
+}
@@ -0,0 +1,132 @@
+package com.act2gether.repository;
+
+import com.act2gether.cache.QnaSecondLevelCacheEvictor;
+import com.act2gether.entity.QnaPost;
+import com.act2gether.entity.QnaReply;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * QnaPostColumnUpdater 구현 (변경된 컬럼만 포함한 네이티브 UPDATE 생성, 답변상태 변경 포함)
+ * JPQL/Criteria 벌크 UPDATE 는 qna_posts 2차 캐시 영역 전체를 비우므로, 어떤 엔티티 테이블과도 겹치지 않는
+ * 쿼리 공간을 지정해 영역 무효화를 막고 수정한 게시글 한 건만 캐시에서 제거한다.
+ * 실행 전 flush, 실행 후 clear 하여 이후 조회가 DB 값을 읽도록 한다.
+ */
+@RequiredArgsConstructor
+public class QnaPostColumnUpdaterImpl implements QnaPostColumnUpdater {
+
+    // 2차 캐시 영역과 연결되지 않는 쿼리 공간 (query cache 는 HibernateConfig 에서 비활성화)
+    private static final String QUERY_SPACE = "qna_posts_column_update";
+
+    private final EntityManager entityManager;
+    private final QnaSecondLevelCacheEvictor cacheEvictor;
+
+    @Override
+    public int updateColumns(Long qnaId, Map<String, Object> changes, Long userId, boolean isAdmin, long expectedVersion) {
+        AbstractEntityPersister persister = persister();
+        String versionColumn = persister.getVersionColumnName();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        StringBuilder sql = new StringBuilder("UPDATE ").append(persister.getTableName()).append(" SET ");
+        changes.forEach((attribute, value) -> {
+            sql.append(column(persister, attribute));
+            if (value == null) {
+                sql.append(" = NULL, ");
+            } else {
+                String name = "v" + parameters.size();
+                sql.append(" = :").append(name).append(", ");
+                // @Enumerated(EnumType.STRING) 컬럼은 이름으로 저장
+                parameters.put(name, value instanceof Enum ? ((Enum<?>) value).name() : value);
+            }
+        });
+        sql.append(column(persister, "updatedAt")).append(" = :now, ")
+                .append(versionColumn).append(" = ").append(versionColumn).append(" + 1")
+                .append(" WHERE ").append(persister.getIdentifierColumnNames()[0]).append(" = :qnaId");
+        parameters.put("now", LocalDateTime.now());
+        parameters.put("qnaId", qnaId);
+        if (!isAdmin) {
+            sql.append(" AND ").append(column(persister, "userPid")).append(" = :userId");
+            parameters.put("userId", userId);
+        }
+        if (expectedVersion != ANY_VERSION) {
+            sql.append(" AND ").append(versionColumn).append(" = :expectedVersion");
+            parameters.put("expectedVersion", expectedVersion);
+        }
+
+        int updated = execute(sql.toString(), parameters, qnaId);
+        entityManager.clear();
+        return updated;
+    }
+
+    @Override
+    public int updateAnswerStatus(Long qnaId, QnaPost.AnswerStatus status, LocalDateTime now) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        return execute(answerStatusUpdate(status, now, qnaId, parameters), parameters, qnaId);
+    }
+
+    @Override
+    public int updateAnswerStatusIfNoReplies(Long qnaId, QnaPost.AnswerStatus status, LocalDateTime now) {
+        AbstractEntityPersister persister = persister();
+        AbstractEntityPersister replyPersister = persister(QnaReply.class);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String sql = answerStatusUpdate(status, now, qnaId, parameters)
+                + " AND " + column(persister, "answerStatus") + " <> :status"
+                + " AND NOT EXISTS (SELECT 1 FROM " + replyPersister.getTableName()
+                + " WHERE " + column(replyPersister, "qnaId") + " = :qnaId)";
+        return execute(sql, parameters, qnaId);
+    }
+
+    // Private helper methods
+
+    private String answerStatusUpdate(QnaPost.AnswerStatus status, LocalDateTime now, Long qnaId,
+                                      Map<String, Object> parameters) {
+        AbstractEntityPersister persister = persister();
+        String versionColumn = persister.getVersionColumnName();
+        parameters.put("status", status.name());
+        parameters.put("now", now);
+        parameters.put("qnaId", qnaId);
+        return "UPDATE " + persister.getTableName()
+                + " SET " + column(persister, "answerStatus") + " = :status, "
+                + column(persister, "updatedAt") + " = :now, "
+                + versionColumn + " = " + versionColumn + " + 1"
+                + " WHERE " + persister.getIdentifierColumnNames()[0] + " = :qnaId";
+    }
+
+    /**
+     * 실행 전 flush, 수정된 행이 있으면 해당 게시글만 2차 캐시에서 제거
+     */
+    private int execute(String sql, Map<String, Object> parameters, Long qnaId) {
+        entityManager.flush();
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(QUERY_SPACE);
+        parameters.forEach(query::setParameter);
+        int updated = query.executeUpdate();
+        if (updated > 0) {
+            cacheEvictor.evictPost(qnaId);
+        }
+        return updated;
+    }
+
+    private AbstractEntityPersister persister() {
+        return persister(QnaPost.class);
+    }
+
+    private AbstractEntityPersister persister(Class<?> entityClass) {
+        return (AbstractEntityPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .entityPersister(entityClass);
+    }
+
+    private String column(AbstractEntityPersister persister, String attribute) {
+        return persister.getPropertyColumnNames(attribute)[0];
+    }
+}
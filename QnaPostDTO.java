@@ -9,10 +9,13 @@ import lombok.NoArgsConstructor;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
 import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class QnaPostDTO {
     
@@ -65,6 +68,25 @@ public class QnaPostDTO {
         private MultipartFile imageFile;
     }
     
+    // 게시글 부분 수정 요청 DTO (PATCH, JSON) - null 인 필드는 변경하지 않음
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PatchRequest {
+        
+        @Size(max = 20, message = "카테고리 값이 올바르지 않습니다.")
+        private String category;
+        
+        @Size(max = 255, message = "제목은 255자 이내로 입력해주세요.")
+        private String title;
+        
+        @Size(max = 5000, message = "내용은 5000자 이내로 입력해주세요.")
+        private String content;
+        
+        private Boolean isLocked;
+    }
+    
     // 게시글 응답 DTO
     @Data
     @Builder
@@ -91,6 +113,8 @@ public class QnaPostDTO {
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         private LocalDateTime updatedAt;
         
+        private Long version; // 수정 시 If-Match 로 전송
+        
         // 답변 목록 (상세 조회 시에만 포함)
         private List<QnaReplyDTO.Response> replies;
         
@@ -110,7 +134,8 @@ public class QnaPostDTO {
                     .replyCount(entity.getReplies() != null ? entity.getReplies().size() : 0)
                     .isOwner(entity.isOwner(currentUserId))
                     .createdAt(entity.getCreatedAt())
-                    .updatedAt(entity.getUpdatedAt());
+                    .updatedAt(entity.getUpdatedAt())
+                    .version(entity.getVersion());
             
             if (includeReplies && entity.getReplies() != null) {
                 List<QnaReplyDTO.Response> replyDTOs = entity.getReplies().stream()
@@ -161,6 +186,23 @@ public class QnaPostDTO {
         }
     }
     
+    // 검색어 자동완성 응답 DTO
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Suggestion {
+        
+        private Long qnaId;
+        private String title;
+    }
+    
+    // 목록 정렬 방식
+    public enum SortType {
+        LATEST,    // 최신순 (기본)
+        RELEVANCE, // 검색 관련도순 (키워드 검색 시에만 적용)
+        TRENDING   // 인기순 (최근 조회/답변 기준, 시간 감쇠)
+    }
+    
     // 검색 요청 DTO
     @Data
     @Builder
@@ -172,6 +214,10 @@ public class QnaPostDTO {
         private QnaPost.Category category;
         private QnaPost.AnswerStatus answerStatus;
         private Boolean myPostsOnly; // 내 글만 보기
+        private Boolean hasImage; // 이미지 첨부 여부 (null 이면 조건 없음)
+        
+        @Builder.Default
+        private SortType sort = SortType.LATEST;
         
         @Builder.Default
         private int page = 0;
@@ -179,4 +225,85 @@ public class QnaPostDTO {
         @Builder.Default
         private int size = 5;
     }
-}
\ No newline at end of file
+    
+    // 관리자 일괄 처리 작업
+    public enum BulkAction {
+        ANSWER,       // 같은 내용으로 답변 등록
+        LOCK,         // 잠금
+        UNLOCK,       // 잠금 해제
+        RECATEGORIZE, // 카테고리 변경
+        DELETE        // 삭제
+    }
+    
+    // 관리자 일괄 처리 요청 DTO
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkModerationRequest {
+        
+        @NotNull(message = "작업 종류는 필수입니다.")
+        private BulkAction action;
+        
+        @NotEmpty(message = "대상 게시글을 선택해주세요.")
+        @Size(max = 300, message = "한 번에 최대 300개까지 처리할 수 있습니다.")
+        private List<@NotNull @Positive Long> qnaIds;
+        
+        private QnaPost.Category category; // RECATEGORIZE 시 필수
+        
+        @Size(max = 2000, message = "답변은 2000자 이내로 입력해주세요.")
+        private String replyContent; // ANSWER 시 필수
+    }
+    
+    // 관리자 일괄 처리 항목별 결과 DTO
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BulkItemResult {
+        
+        private Long qnaId;
+        private boolean success;
+        private String message;
+    }
+    
+    // 답변 대기 작업 할당 응답 DTO
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PendingClaim {
+        
+        private Long qnaId;
+        private QnaPost.Category category;
+        
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime createdAt;
+        
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime leaseExpiresAt;
+    }
+    
+    // 답변 대기 현황 응답 DTO
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PendingStats {
+        
+        private long total;
+        private Map<QnaPost.Category, Long> byCategory;
+        private long leased; // 현재 다른 관리자가 처리 중인 게시글 수
+    }
+    
+    // 목록 필터별 게시글 수 응답 DTO
+    // 각 항목은 자기 자신을 제외한 나머지 필터를 적용한 건수 (필터 칩에 그대로 표시)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Facets {
+        
+        private long total; // 현재 필터를 모두 적용한 건수
+        private Map<QnaPost.Category, Long> category;
+        private Map<QnaPost.AnswerStatus, Long> answerStatus;
+        private long locked;
+        private long unlocked;
+    }
+}
@@ -0,0 +1,25 @@
+package com.act2gether.repository;
+
+import com.act2gether.entity.QnaPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 필터 비트맵 색인 생성용 프로젝션 (본문 제외)
+ */
+public interface QnaPostFilterView {
+    
+    Long getQnaId();
+    
+    Long getUserPid();
+    
+    QnaPost.Category getCategory();
+    
+    QnaPost.AnswerStatus getAnswerStatus();
+    
+    Boolean getIsLocked();
+    
+    String getImagePath();
+    
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,17 @@
+package com.act2gether.repository;
+
+import com.act2gether.entity.QnaPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답변 대기 작업 큐 생성용 프로젝션 (정렬/분류에 필요한 컬럼만)
+ */
+public interface QnaPostPendingView {
+    
+    Long getQnaId();
+    
+    QnaPost.Category getCategory();
+    
+    LocalDateTime getCreatedAt();
+}
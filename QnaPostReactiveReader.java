@@ -0,0 +1,217 @@
+package com.act2gether.repository;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.dto.QnaReplyDTO;
+import com.act2gether.entity.QnaPost;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * QnA 읽기 전용 R2DBC 조회 (JPA 와 같은 스키마, 논블로킹 드라이버)
+ * - 목록/상세/답변을 엔티티 없이 DTO 로 바로 매핑
+ * - 목록의 열람 조건은 QnaPostSpecification 과 동일 (관리자 전체, 내 글 보기는 작성자, 그 외 잠금 해제된 글)
+ * - 작성자/관리자 닉네임은 사용자 테이블을 조인 (테이블/컬럼 이름은 설정으로 지정)
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.qna.reactive-read.enabled", havingValue = "true")
+public class QnaPostReactiveReader {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[\\p{L}_][\\p{L}\\p{N}_]*");
+
+    private final DatabaseClient databaseClient;
+
+    @Value("${app.qna.reactive-read.user-table:users}")
+    private String userTable;
+
+    @Value("${app.qna.reactive-read.user-id-column:유저_pid}")
+    private String userIdColumn;
+
+    @Value("${app.qna.reactive-read.user-name-column:유저아이디}")
+    private String userNameColumn;
+
+    private String listSelect;
+    private String detailSelect;
+    private String repliesSelect;
+
+    @PostConstruct
+    public void init() {
+        // 설정 값이 SQL 에 그대로 들어가므로 식별자 형식만 허용
+        for (String identifier : List.of(userTable, userIdColumn, userNameColumn)) {
+            if (!IDENTIFIER.matcher(identifier).matches()) {
+                throw new IllegalArgumentException("유효하지 않은 사용자 테이블 설정입니다: " + identifier);
+            }
+        }
+
+        listSelect = "SELECT p.qna_id, p.유저_pid, p.카테고리, p.제목, p.이미지경로, p.잠금여부, p.답변상태, p.조회수, p.생성날, "
+                + "u." + userNameColumn + " AS 작성자, "
+                + "(SELECT COUNT(*) FROM qna_replies r WHERE r.qna_id = p.qna_id) AS 답변수 "
+                + "FROM qna_posts p LEFT JOIN " + userTable + " u ON u." + userIdColumn + " = p.유저_pid ";
+
+        detailSelect = "SELECT p.qna_id, p.유저_pid, p.카테고리, p.제목, p.내용, p.이미지경로, p.잠금여부, p.답변상태, "
+                + "p.조회수, p.생성날, p.업데이트날, p.버전, u." + userNameColumn + " AS 작성자 "
+                + "FROM qna_posts p LEFT JOIN " + userTable + " u ON u." + userIdColumn + " = p.유저_pid "
+                + "WHERE p.qna_id = :qnaId";
+
+        repliesSelect = "SELECT r.답변_id, r.qna_id, r.관리자_유저_pid, r.답변내용, r.생성날, r.업데이트날, r.버전, "
+                + "u." + userNameColumn + " AS 관리자 "
+                + "FROM qna_replies r LEFT JOIN " + userTable + " u ON u." + userIdColumn + " = r.관리자_유저_pid "
+                + "WHERE r.qna_id = :qnaId ORDER BY r.생성날 ASC, r.답변_id ASC";
+    }
+
+    /**
+     * 목록 페이지 (최신순)
+     */
+    public Flux<QnaPostDTO.ListResponse> findPage(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin) {
+        Map<String, Object> binds = new LinkedHashMap<>();
+        String sql = listSelect + where(searchRequest, currentUserId, isAdmin, binds)
+                + " ORDER BY p.생성날 DESC, p.qna_id DESC LIMIT :limit OFFSET :offset";
+        binds.put("limit", searchRequest.getSize());
+        binds.put("offset", (long) searchRequest.getPage() * searchRequest.getSize());
+
+        return bindAll(databaseClient.sql(sql), binds)
+                .map((row, metadata) -> toListResponse(row, currentUserId))
+                .all();
+    }
+
+    /**
+     * 목록 전체 건수
+     */
+    public Mono<Long> count(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin) {
+        Map<String, Object> binds = new LinkedHashMap<>();
+        String sql = "SELECT COUNT(*) AS 건수 FROM qna_posts p" + where(searchRequest, currentUserId, isAdmin, binds);
+
+        return bindAll(databaseClient.sql(sql), binds)
+                .map((row, metadata) -> row.get("건수", Long.class))
+                .one();
+    }
+
+    /**
+     * 게시글 상세 (답변 제외, 권한 확인은 호출하는 쪽에서 수행)
+     */
+    public Mono<QnaPostDTO.Response> findDetail(Long qnaId, Long currentUserId) {
+        return databaseClient.sql(detailSelect)
+                .bind("qnaId", qnaId)
+                .map((row, metadata) -> toResponse(row, currentUserId))
+                .one();
+    }
+
+    /**
+     * 게시글의 답변 목록 (작성순)
+     */
+    public Flux<QnaReplyDTO.Response> findReplies(Long qnaId) {
+        return databaseClient.sql(repliesSelect)
+                .bind("qnaId", qnaId)
+                .map((row, metadata) -> toReplyResponse(row))
+                .all();
+    }
+
+    // Private helper methods
+
+    private String where(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin,
+                         Map<String, Object> binds) {
+        List<String> conditions = new ArrayList<>();
+        if (searchRequest.getCategory() != null) {
+            conditions.add("p.카테고리 = :category");
+            binds.put("category", searchRequest.getCategory().name());
+        }
+        if (searchRequest.getAnswerStatus() != null) {
+            conditions.add("p.답변상태 = :answerStatus");
+            binds.put("answerStatus", searchRequest.getAnswerStatus().name());
+        }
+        if (searchRequest.getHasImage() != null) {
+            conditions.add(searchRequest.getHasImage()
+                    ? "(p.이미지경로 IS NOT NULL AND p.이미지경로 <> '')"
+                    : "(p.이미지경로 IS NULL OR p.이미지경로 = '')");
+        }
+        if (Boolean.TRUE.equals(searchRequest.getMyPostsOnly())) {
+            // 내 글만 보기 (잠금 여부와 무관, 비로그인 사용자는 호출 전에 빈 결과 처리)
+            conditions.add("p.유저_pid = :userPid");
+            binds.put("userPid", currentUserId);
+        } else if (!isAdmin) {
+            conditions.add("p.잠금여부 = :locked");
+            binds.put("locked", false);
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindAll(DatabaseClient.GenericExecuteSpec spec, Map<String, Object> binds) {
+        for (Map.Entry<String, Object> bind : binds.entrySet()) {
+            spec = spec.bind(bind.getKey(), bind.getValue());
+        }
+        return spec;
+    }
+
+    private QnaPostDTO.ListResponse toListResponse(Row row, Long currentUserId) {
+        Long userPid = row.get("유저_pid", Long.class);
+        String imagePath = row.get("이미지경로", String.class);
+        return QnaPostDTO.ListResponse.builder()
+                .qnaId(row.get("qna_id", Long.class))
+                .userNickname(nickname(row.get("작성자", String.class), "Unknown"))
+                .category(QnaPost.Category.valueOf(row.get("카테고리", String.class)))
+                .title(row.get("제목", String.class))
+                .isLocked(row.get("잠금여부", Boolean.class))
+                .answerStatus(answerStatus(row.get("답변상태", String.class)))
+                .viewCount(row.get("조회수", Integer.class))
+                .replyCount(row.get("답변수", Long.class).intValue())
+                .isOwner(userPid != null && userPid.equals(currentUserId))
+                .hasImage(imagePath != null && !imagePath.isEmpty())
+                .createdAt(row.get("생성날", LocalDateTime.class))
+                .build();
+    }
+
+    private QnaPostDTO.Response toResponse(Row row, Long currentUserId) {
+        Long userPid = row.get("유저_pid", Long.class);
+        return QnaPostDTO.Response.builder()
+                .qnaId(row.get("qna_id", Long.class))
+                .userPid(userPid)
+                .userNickname(nickname(row.get("작성자", String.class), "Unknown"))
+                .category(QnaPost.Category.valueOf(row.get("카테고리", String.class)))
+                .title(row.get("제목", String.class))
+                .content(row.get("내용", String.class))
+                .imagePath(row.get("이미지경로", String.class))
+                .isLocked(row.get("잠금여부", Boolean.class))
+                .answerStatus(answerStatus(row.get("답변상태", String.class)))
+                .viewCount(row.get("조회수", Integer.class))
+                .isOwner(userPid != null && userPid.equals(currentUserId))
+                .createdAt(row.get("생성날", LocalDateTime.class))
+                .updatedAt(row.get("업데이트날", LocalDateTime.class))
+                .version(row.get("버전", Long.class))
+                .build();
+    }
+
+    private QnaReplyDTO.Response toReplyResponse(Row row) {
+        return QnaReplyDTO.Response.builder()
+                .replyId(row.get("답변_id", Long.class))
+                .qnaId(row.get("qna_id", Long.class))
+                .adminUserPid(row.get("관리자_유저_pid", Long.class))
+                .adminNickname(nickname(row.get("관리자", String.class), "관리자"))
+                .replyContent(row.get("답변내용", String.class))
+                .createdAt(row.get("생성날", LocalDateTime.class))
+                .updatedAt(row.get("업데이트날", LocalDateTime.class))
+                .version(row.get("버전", Long.class))
+                .build();
+    }
+
+    private QnaPost.AnswerStatus answerStatus(String value) {
+        return value != null ? QnaPost.AnswerStatus.valueOf(value) : null;
+    }
+
+    private String nickname(String value, String fallback) {
+        return value != null ? value : fallback;
+    }
+}
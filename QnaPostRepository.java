@@ -3,70 +3,99 @@ package com.act2gether.repository;
 import com.act2gether.entity.QnaPost;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface SecureQnaPostRepository extends JpaRepository<QnaPost, Long> {
+public interface SecureQnaPostRepository extends JpaRepository<QnaPost, Long>, JpaSpecificationExecutor<QnaPost>,
+        QnaPostColumnUpdater {
     
-    // 보안 강화: 매개변수화된 쿼리 사용, ESCAPE 절 추가
-    @Query("SELECT q FROM QnaPost q WHERE q.isLocked = false " +
-           "AND (LOWER(q.title) LIKE LOWER(CONCAT('%', ESCAPE_SPECIAL_CHARS(:keyword), '%')) ESCAPE '\\' " +
-           "OR LOWER(q.content) LIKE LOWER(CONCAT('%', ESCAPE_SPECIAL_CHARS(:keyword), '%')) ESCAPE '\\') " +
-           "ORDER BY q.createdAt DESC")
-    Page<QnaPost> findUnlockedPostsByKeywordSecure(@Param("keyword") String keyword, Pageable pageable);
+    // 목록/검색 조회: 조건 조합은 QnaPostSpecification 에서 생성 (작성자 정보 함께 로딩)
+    @Override
+    @EntityGraph(attributePaths = {"user"})
+    Page<QnaPost> findAll(Specification<QnaPost> spec, Pageable pageable);
     
-    // 관리자용 검색 - 보안 강화
-    @Query("SELECT q FROM QnaPost q WHERE " +
-           "LOWER(q.title) LIKE LOWER(CONCAT('%', ESCAPE_SPECIAL_CHARS(:keyword), '%')) ESCAPE '\\' " +
-           "OR LOWER(q.content) LIKE LOWER(CONCAT('%', ESCAPE_SPECIAL_CHARS(:keyword), '%')) ESCAPE '\\' " +
-           "ORDER BY q.createdAt DESC")
-    Page<QnaPost> findAllPostsByKeywordSecure(@Param("keyword") String keyword, Pageable pageable);
+    // 메모리 색인에서 찾은 페이지 ID 로 게시글 로딩 (작성자 정보 함께 로딩, 순서는 호출 측에서 정렬)
+    @EntityGraph(attributePaths = {"user"})
+    List<QnaPost> findByQnaIdIn(Collection<Long> qnaIds);
     
-    // 카테고리별 검색 - 보안 강화
-    @Query("SELECT q FROM QnaPost q WHERE q.category = :category " +
-           "AND q.isLocked = false " +
-           "AND (LOWER(q.title) LIKE LOWER(CONCAT('%', ESCAPE_SPECIAL_CHARS(:keyword), '%')) ESCAPE '\\' " +
-           "OR LOWER(q.content) LIKE LOWER(CONCAT('%', ESCAPE_SPECIAL_CHARS(:keyword), '%')) ESCAPE '\\') " +
-           "ORDER BY q.createdAt DESC")
-    Page<QnaPost> findByCategoryAndKeywordSecure(
-        @Param("category") QnaPost.Category category, 
-        @Param("keyword") String keyword, 
-        Pageable pageable
-    );
+    // 상세 조회: 게시글 + 작성자 + 답변(작성 순) + 답변 관리자를 한 번의 쿼리로 로딩
+    @Query("SELECT DISTINCT q FROM QnaPost q " +
+           "LEFT JOIN FETCH q.user " +
+           "LEFT JOIN FETCH q.replies r " +
+           "LEFT JOIN FETCH r.adminUser " +
+           "WHERE q.qnaId = :qnaId")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    Optional<QnaPost> findDetailById(@Param("qnaId") Long qnaId);
     
-    // 사용자별 검색 - 보안 강화
-    @Query("SELECT q FROM QnaPost q WHERE q.userPid = :userPid " +
-           "AND (LOWER(q.title) LIKE LOWER(CONCAT('%', ESCAPE_SPECIAL_CHARS(:keyword), '%')) ESCAPE '\\' " +
-           "OR LOWER(q.content) LIKE LOWER(CONCAT('%', ESCAPE_SPECIAL_CHARS(:keyword), '%')) ESCAPE '\\') " +
-           "ORDER BY q.createdAt DESC")
-    Page<QnaPost> findByUserAndKeywordSecure(
-        @Param("userPid") Long userPid, 
-        @Param("keyword") String keyword, 
-        Pageable pageable
-    );
+    // 여러 건 상세 조회: 상세 조회와 같은 fetch join 을 IN 조건으로 한 번에 실행 (순서는 호출 측에서 정렬)
+    @Query("SELECT DISTINCT q FROM QnaPost q " +
+           "LEFT JOIN FETCH q.user " +
+           "LEFT JOIN FETCH q.replies r " +
+           "LEFT JOIN FETCH r.adminUser " +
+           "WHERE q.qnaId IN :qnaIds")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    List<QnaPost> findDetailsByQnaIdIn(@Param("qnaIds") Collection<Long> qnaIds);
     
-    // 기본 조회 쿼리들 (매개변수화된 쿼리 사용)
-    @Query("SELECT q FROM QnaPost q WHERE q.isLocked = false ORDER BY q.createdAt DESC")
-    Page<QnaPost> findAllUnlockedPostsSecure(Pageable pageable);
+    // 상세 조건부 조회: 권한/ETag 계산용 컬럼과 답변 수/마지막 답변 수정 시각을 한 번에 조회 (상세 로딩 전에 304 여부 판단)
+    @Query("SELECT q.qnaId AS qnaId, q.userPid AS userPid, q.isLocked AS isLocked, q.updatedAt AS updatedAt, " +
+           "q.version AS version, COUNT(r) AS replyCount, MAX(r.updatedAt) AS lastReplyUpdatedAt " +
+           "FROM QnaPost q LEFT JOIN q.replies r " +
+           "WHERE q.qnaId = :qnaId " +
+           "GROUP BY q.qnaId, q.userPid, q.isLocked, q.updatedAt, q.version")
+    Optional<QnaPostValidatorView> findValidatorByQnaId(@Param("qnaId") Long qnaId);
     
-    @Query("SELECT q FROM QnaPost q WHERE q.userPid = :userPid ORDER BY q.createdAt DESC")
-    Page<QnaPost> findByUserSecure(@Param("userPid") Long userPid, Pageable pageable);
+    // 답변상태 변경(updateAnswerStatus, updateAnswerStatusIfNoReplies)은 QnaPostColumnUpdater 에서 처리
+    // (JPQL 벌크 UPDATE 는 2차 캐시 영역 전체를 비우므로 네이티브 UPDATE 후 해당 게시글만 제거)
     
-    @Query("SELECT q FROM QnaPost q WHERE q.category = :category AND q.isLocked = false ORDER BY q.createdAt DESC")
-    Page<QnaPost> findByCategorySecure(@Param("category") QnaPost.Category category, Pageable pageable);
+    // 답변 대기 작업 큐 생성용 (본문 제외)
+    List<QnaPostPendingView> findByAnswerStatus(QnaPost.AnswerStatus answerStatus);
     
-    @Query("SELECT q FROM QnaPost q WHERE q.answerStatus = :status AND q.isLocked = false ORDER BY q.createdAt DESC")
-    Page<QnaPost> findByAnswerStatusSecure(@Param("status") QnaPost.AnswerStatus status, Pageable pageable);
+    // 검색 역색인 생성용: qnaId 커서 이후만 조회 (OFFSET 없이 기본키 범위 탐색, 색인 대상 컬럼만)
+    @Query("SELECT q.qnaId AS qnaId, q.userPid AS userPid, q.category AS category, " +
+           "q.answerStatus AS answerStatus, q.isLocked AS isLocked, q.imagePath AS imagePath, " +
+           "q.createdAt AS createdAt, q.title AS title, q.content AS content " +
+           "FROM QnaPost q WHERE q.qnaId > :qnaId ORDER BY q.qnaId ASC")
+    List<QnaPostSearchView> findSearchViewsAfter(@Param("qnaId") Long qnaId, Pageable pageable);
     
-    // 관리자용 쿼리들
-    @Query("SELECT q FROM QnaPost q WHERE q.category = :category ORDER BY q.createdAt DESC")
-    Page<QnaPost> findByCategoryAdminSecure(@Param("category") QnaPost.Category category, Pageable pageable);
+    // 목록 필터 비트맵 색인 생성용 첫 페이지 (작성 순, 본문 제외)
+    @Query("SELECT q.qnaId AS qnaId, q.userPid AS userPid, q.category AS category, " +
+           "q.answerStatus AS answerStatus, q.isLocked AS isLocked, q.imagePath AS imagePath, " +
+           "q.createdAt AS createdAt " +
+           "FROM QnaPost q ORDER BY q.createdAt ASC, q.qnaId ASC")
+    List<QnaPostFilterView> findFilterViews(Pageable pageable);
     
-    @Query("SELECT q FROM QnaPost q WHERE q.answerStatus = :status ORDER BY q.createdAt DESC")
-    Page<QnaPost> findByAnswerStatusAdminSecure(@Param("status") QnaPost.AnswerStatus status, Pageable pageable);
+    // 목록 필터 비트맵 색인 생성용 다음 페이지: (생성날, qnaId) 커서 이후만 조회 (OFFSET 없이 인덱스 범위 탐색)
+    @Query("SELECT q.qnaId AS qnaId, q.userPid AS userPid, q.category AS category, " +
+           "q.answerStatus AS answerStatus, q.isLocked AS isLocked, q.imagePath AS imagePath, " +
+           "q.createdAt AS createdAt " +
+           "FROM QnaPost q " +
+           "WHERE q.createdAt > :createdAt OR (q.createdAt = :createdAt AND q.qnaId > :qnaId) " +
+           "ORDER BY q.createdAt ASC, q.qnaId ASC")
+    List<QnaPostFilterView> findFilterViewsAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("qnaId") Long qnaId,
+        Pageable pageable
+    );
+    
+    // 제목 자동완성 색인 생성용: qnaId 커서 이후만 조회 (본문 제외)
+    @Query("SELECT q.qnaId AS qnaId, q.userPid AS userPid, q.title AS title, " +
+           "q.isLocked AS isLocked, q.createdAt AS createdAt " +
+           "FROM QnaPost q WHERE q.qnaId > :qnaId ORDER BY q.qnaId ASC")
+    List<QnaPostTitleView> findTitleViewsAfter(@Param("qnaId") Long qnaId, Pageable pageable);
     
     // 보안 강화: ID로 조회 시 사용자 권한 확인
     @Query("SELECT q FROM QnaPost q WHERE q.qnaId = :qnaId AND " +
@@ -77,7 +106,3 @@ public interface SecureQnaPostRepository extends JpaRepository<QnaPost, Long> {
         @Param("isAdmin") boolean isAdmin
     );
 }
-
-// SQL Injection 방지를 위한 유틸리티 함수가 필요합니다.
-// 이는 @Query 어노테이션에서 직접 사용할 수 없으므로, 
-// Service 레이어에서 처리해야 합니다.
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.act2gether.repository;
+
+import com.act2gether.entity.QnaPost;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 역색인 생성용 프로젝션 (색인 대상 컬럼만)
+ */
+public interface QnaPostSearchView {
+    
+    Long getQnaId();
+    
+    Long getUserPid();
+    
+    QnaPost.Category getCategory();
+    
+    QnaPost.AnswerStatus getAnswerStatus();
+    
+    Boolean getIsLocked();
+    
+    String getImagePath();
+    
+    LocalDateTime getCreatedAt();
+    
+    String getTitle();
+    
+    String getContent();
+}
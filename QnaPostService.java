@@ -1,20 +1,42 @@
 package com.act2gether.service;
 
+import com.act2gether.cache.QnaListResponseCache;
+import com.act2gether.cache.ResponseValidators;
 import com.act2gether.dto.QnaPostDTO;
 import com.act2gether.entity.QnaPost;
+import com.act2gether.event.QnaPostChangedEvent;
+import com.act2gether.repository.QnaPostColumnUpdater;
 import com.act2gether.repository.QnaPostRepository;
+import com.act2gether.repository.QnaPostSpecification;
+import com.act2gether.repository.QnaPostValidatorView;
+import com.act2gether.search.QnaFilterIndex;
+import com.act2gether.search.QnaSearchIndex;
+import com.act2gether.search.QnaTrendingTracker;
 import com.act2gether.util.FileUploadUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,36 +45,96 @@ import java.util.Objects;
 public class QnaPostService {
     
     private final QnaPostRepository qnaPostRepository;
+    private final QnaListResponseCache listResponseCache;
     private final FileUploadUtil fileUploadUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QnaSearchIndex qnaSearchIndex;
+    private final QnaFilterIndex qnaFilterIndex;
+    private final QnaViewCountBuffer viewCountBuffer;
+    private final QnaViewDeduplicator viewDeduplicator;
+    private final QnaTrendingTracker trendingTracker;
     
     /**
      * QnA 게시글 목록 조회 (페이징)
+     * 페이지 게시글을 로딩한 뒤 DTO 변환 전에 검증값을 계산하고, notModified 가 true 면 null 반환 (304)
      */
-    public Page<QnaPostDTO.ListResponse> getQnaPosts(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin) {
-        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize());
-        Page<QnaPost> posts;
+    public Page<QnaPostDTO.ListResponse> getQnaPosts(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin,
+                                                     Predicate<ResponseValidators> notModified) {
+        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize(),
+                Sort.by(Sort.Direction.DESC, "createdAt"));
         
-        // 검색 조건에 따른 쿼리 분기
-        if (searchRequest.getMyPostsOnly() != null && searchRequest.getMyPostsOnly()) {
-            // 내 글만 보기
-            posts = getMyPosts(searchRequest, currentUserId, pageable);
-        } else if (isAdmin) {
-            // 관리자는 모든 글 조회 가능
-            posts = getAdminPosts(searchRequest, pageable);
+        Page<QnaPost> posts;
+        String keyword = searchRequest.getKeyword();
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        if (searchRequest.getSort() == QnaPostDTO.SortType.TRENDING && qnaSearchIndex.isReady()
+                && (!hasKeyword || qnaSearchIndex.canServe(keyword))) {
+            // 인기순: 메모리 점수 순위에 목록 조건을 적용한 뒤 해당 페이지만 ID 로 로딩
+            QnaSearchIndex.SearchHits hits = qnaSearchIndex.filter(
+                    trendingTracker.getRankedIds(), searchRequest, currentUserId, isAdmin);
+            posts = new PageImpl<>(findPostsInOrder(hits.getIds()), pageable, hits.getTotal());
+        } else if (qnaSearchIndex.canServe(keyword)) {
+            // 키워드 검색은 메모리 색인에서 필터링 후 해당 페이지만 DB 에서 로딩
+            QnaSearchIndex.SearchHits hits = qnaSearchIndex.search(searchRequest, currentUserId, isAdmin);
+            posts = new PageImpl<>(findPostsInOrder(hits.getIds()), pageable, hits.getTotal());
+        } else if (qnaFilterIndex.canServe(searchRequest)) {
+            // 키워드 없는 목록은 비트맵 색인으로 필터링/건수 계산 후 해당 페이지만 DB 에서 로딩
+            QnaSearchIndex.SearchHits hits = qnaFilterIndex.query(searchRequest, currentUserId, isAdmin);
+            posts = new PageImpl<>(findPostsInOrder(hits.getIds()), pageable, hits.getTotal());
         } else {
-            // 일반 사용자는 잠금 해제된 글만 조회
-            posts = getPublicPosts(searchRequest, pageable);
+            // 검색 조건(키워드, 카테고리, 답변상태, 잠금, 작성자)을 하나의 쿼리로 조합
+            posts = qnaPostRepository.findAll(
+                    QnaPostSpecification.of(searchRequest, currentUserId, isAdmin), pageable);
+        }
+        
+        if (notModified.test(listValidators(posts, currentUserId, isAdmin))) {
+            return null;
         }
         
         return posts.map(post -> QnaPostDTO.ListResponse.from(post, currentUserId));
     }
     
+    /**
+     * QnA 게시글 상세 조건부 조회
+     * 권한/ETag 계산용 컬럼과 답변 통계를 쿼리 한 번으로 먼저 읽어 notModified 가 true 면 상세 로딩과 DTO 생성 없이 null 반환 (304)
+     * 304 응답도 조회로 보고 조회수 집계는 동일하게 수행한다.
+     */
+    public QnaPostDTO.Response getQnaPost(Long qnaId, Long currentUserId, boolean isAdmin, String viewerKey,
+                                          Predicate<ResponseValidators> notModified) {
+        QnaPostValidatorView view = qnaPostRepository.findValidatorByQnaId(qnaId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        
+        // 접근 권한 확인
+        boolean owner = view.getUserPid() != null && view.getUserPid().equals(currentUserId);
+        if (!QnaPost.canView(view.getIsLocked(), view.getUserPid(), currentUserId, isAdmin)) {
+            throw new IllegalArgumentException("잠긴 게시글입니다.");
+        }
+        
+        // 조회수는 weak ETag 에서 제외 (자주 바뀌지만 내용 변경이 아님)
+        ResponseValidators validators = ResponseValidators.of("detail")
+                .add(currentUserId)
+                .add(isAdmin)
+                .add(qnaId)
+                .add(view.getVersion())
+                .addTimestamp(view.getUpdatedAt());
+        if (view.getReplyCount() > 0) {
+            validators.add(view.getReplyCount()).addTimestamp(view.getLastReplyUpdatedAt());
+        }
+        
+        if (notModified.test(validators)) {
+            recordView(qnaId, owner, viewerKey);
+            return null;
+        }
+        return getQnaPost(qnaId, currentUserId, isAdmin, viewerKey);
+    }
+    
     /**
      * QnA 게시글 상세 조회
+     * 조회수는 QnaViewCountBuffer 에 누적 후 주기적으로 반영 (조회 자체는 읽기 전용)
+     * 같은 조회자(viewerKey)의 반복 조회는 QnaViewDeduplicator 의 window 동안 한 번만 집계
      */
-    @Transactional
-    public QnaPostDTO.Response getQnaPost(Long qnaId, Long currentUserId, boolean isAdmin) {
-        QnaPost post = qnaPostRepository.findById(qnaId)
+    public QnaPostDTO.Response getQnaPost(Long qnaId, Long currentUserId, boolean isAdmin, String viewerKey) {
+        // 작성자/답변/답변 관리자까지 한 번에 로딩 (Response.from 에서 추가 지연 로딩 없음)
+        QnaPost post = qnaPostRepository.findDetailById(qnaId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
         
         // 접근 권한 확인
@@ -60,13 +142,35 @@ public class QnaPostService {
             throw new IllegalArgumentException("잠긴 게시글입니다.");
         }
         
-        // 조회수 증가 (본인 글이 아닌 경우만)
-        if (!post.isOwner(currentUserId)) {
-            post.incrementViewCount();
-            qnaPostRepository.save(post);
-        }
+        recordView(qnaId, post.isOwner(currentUserId), viewerKey);
         
-        return QnaPostDTO.Response.from(post, currentUserId, true);
+        QnaPostDTO.Response response = QnaPostDTO.Response.from(post, currentUserId, true);
+        response.setViewCount(post.getViewCount() + (int) viewCountBuffer.pendingCount(qnaId));
+        return response;
+    }
+    
+    /**
+     * QnA 게시글 여러 건 상세 조회 (알림, 최근 글 위젯용)
+     * 게시글/작성자/답변/답변 관리자를 IN 쿼리 한 번으로 로딩하고 요청한 ID 순서대로 반환한다.
+     * 없거나 열람 권한이 없는 게시글은 같은 위치에 null (존재 여부를 구분하지 않음).
+     * 미리보기 용도이므로 조회수는 집계하지 않는다.
+     */
+    public List<QnaPostDTO.Response> getQnaPostsByIds(List<Long> qnaIds, Long currentUserId, boolean isAdmin) {
+        Map<Long, QnaPost> byId = qnaPostRepository.findDetailsByQnaIdIn(new HashSet<>(qnaIds)).stream()
+                .collect(Collectors.toMap(QnaPost::getQnaId, Function.identity()));
+        
+        List<QnaPostDTO.Response> results = new ArrayList<>(qnaIds.size());
+        for (Long qnaId : qnaIds) {
+            QnaPost post = byId.get(qnaId);
+            if (post == null || !post.canView(currentUserId, isAdmin)) {
+                results.add(null);
+                continue;
+            }
+            QnaPostDTO.Response response = QnaPostDTO.Response.from(post, currentUserId, true);
+            response.setViewCount(post.getViewCount() + (int) viewCountBuffer.pendingCount(qnaId));
+            results.add(response);
+        }
+        return results;
     }
     
     /**
@@ -96,43 +200,97 @@ public class QnaPostService {
                 .build();
         
         QnaPost savedPost = qnaPostRepository.save(post);
+        eventPublisher.publishEvent(QnaPostChangedEvent.created(savedPost));
         return QnaPostDTO.Response.from(savedPost, userId, false);
     }
     
     /**
      * QnA 게시글 수정
+     * 현재 게시글(2차 캐시)과 비교해 바뀐 컬럼만 담은 단일 조건부 UPDATE 로 처리 (작성자/관리자 확인을 WHERE 절에서 수행)
+     * 바뀐 것이 없으면 쓰기 없이 현재 게시글을 반환하므로 수정 시각/버전이 바뀌지 않는다.
+     * 읽은 버전을 조건으로 사용해 비교 이후 다른 수정이 끼어들면 충돌로 처리한다.
+     *
+     * @param expectedVersion If-Match 로 받은 버전 (없으면 QnaPostColumnUpdater.ANY_VERSION)
      */
     @Transactional
-    public QnaPostDTO.Response updateQnaPost(Long qnaId, QnaPostDTO.UpdateRequest request, Long userId, boolean isAdmin) {
-        QnaPost post = qnaPostRepository.findById(qnaId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+    public QnaPostDTO.Response updateQnaPost(Long qnaId, QnaPostDTO.UpdateRequest request, Long userId, boolean isAdmin,
+                                             long expectedVersion) {
+        QnaPost current = findEditablePost(qnaId, userId, isAdmin, expectedVersion);
         
-        // 수정 권한 확인 (작성자 또는 관리자)
-        if (!post.isOwner(userId) && !isAdmin) {
-            throw new IllegalArgumentException("수정 권한이 없습니다.");
-        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "category", current.getCategory(), request.getCategory());
+        putIfChanged(changes, "title", current.getTitle(), nonBlank(request.getTitle()));
+        putIfChanged(changes, "content", current.getContent(), nonBlank(request.getContent()));
+        putIfChanged(changes, "isLocked", current.getIsLocked(), request.getIsLocked());
         
-        // 필드 업데이트
-        if (request.getCategory() != null) {
-            post.setCategory(request.getCategory());
+        // 이미지 처리 (기존 파일은 UPDATE 성공 후 삭제, 실패 시 새로 올린 파일 삭제)
+        String previousImagePath = current.getImagePath();
+        String uploadedImagePath = null;
+        if (request.getImageFile() != null && !request.getImageFile().isEmpty()) {
+            uploadedImagePath = uploadImage(request.getImageFile(), userId);
+            changes.put("imagePath", uploadedImagePath);
+        } else if (Boolean.TRUE.equals(request.getDeleteImage()) && previousImagePath != null) {
+            changes.put("imagePath", null);
         }
-        if (request.getTitle() != null && !request.getTitle().trim().isEmpty()) {
-            post.setTitle(request.getTitle());
+        
+        if (changes.isEmpty()) {
+            log.debug("QnA 게시글 수정 - 변경 없음, 쓰기 생략 - ID: {}", qnaId);
+            return QnaPostDTO.Response.from(qnaPostRepository.findDetailById(qnaId)
+                    .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다.")), userId, true);
         }
-        if (request.getContent() != null && !request.getContent().trim().isEmpty()) {
-            post.setContent(request.getContent());
+        
+        int updated = qnaPostRepository.updateColumns(qnaId, changes, userId, isAdmin, current.getVersion());
+        if (updated == 0) {
+            deleteImageQuietly(uploadedImagePath);
+            throw updateFailure(qnaId, userId, isAdmin);
         }
-        if (request.getIsLocked() != null) {
-            post.setIsLocked(request.getIsLocked());
+        if (changes.containsKey("imagePath")) {
+            deleteImageQuietly(previousImagePath);
         }
         
-        // 이미지 처리
-        handleImageUpdate(post, request, userId);
-        
-        QnaPost updatedPost = qnaPostRepository.save(post);
+        QnaPost updatedPost = qnaPostRepository.findDetailById(qnaId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        eventPublisher.publishEvent(QnaPostChangedEvent.updated(updatedPost));
         return QnaPostDTO.Response.from(updatedPost, userId, true);
     }
     
+    /**
+     * QnA 게시글 부분 수정 (PATCH)
+     * 현재 값(2차 캐시)과 비교해 실제로 바뀐 컬럼만 UPDATE 하고, 바뀐 것이 없으면 쓰기 없이 현재 게시글 반환
+     * (잠금 토글만 보낸 경우 본문 컬럼을 다시 쓰지 않고, 수정 시각/버전도 바뀌지 않음)
+     *
+     * @param expectedVersion If-Match 로 받은 버전 (없으면 QnaPostColumnUpdater.ANY_VERSION)
+     */
+    @Transactional
+    public QnaPostDTO.Response patchQnaPost(Long qnaId, QnaPostDTO.UpdateRequest request, Long userId, boolean isAdmin,
+                                            long expectedVersion) {
+        QnaPost current = findEditablePost(qnaId, userId, isAdmin, expectedVersion);
+        
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "category", current.getCategory(), request.getCategory());
+        putIfChanged(changes, "title", current.getTitle(), request.getTitle());
+        putIfChanged(changes, "content", current.getContent(), request.getContent());
+        putIfChanged(changes, "isLocked", current.getIsLocked(), request.getIsLocked());
+        
+        if (changes.isEmpty()) {
+            log.debug("QnA 게시글 부분 수정 - 변경 없음, 쓰기 생략 - ID: {}", qnaId);
+        } else {
+            // 읽은 버전을 조건으로 사용해 비교 이후 다른 수정이 끼어들면 충돌로 처리
+            int updated = qnaPostRepository.updateColumns(qnaId, changes, userId, isAdmin, current.getVersion());
+            if (updated == 0) {
+                throw updateFailure(qnaId, userId, isAdmin);
+            }
+            log.info("QnA 게시글 부분 수정 - ID: {}, 변경 컬럼: {}", qnaId, changes.keySet());
+        }
+        
+        QnaPost post = qnaPostRepository.findDetailById(qnaId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(QnaPostChangedEvent.updated(post));
+        }
+        return QnaPostDTO.Response.from(post, userId, true);
+    }
+    
     /**
      * QnA 게시글 삭제
      */
@@ -156,88 +314,115 @@ public class QnaPostService {
         }
         
         qnaPostRepository.delete(post);
+        eventPublisher.publishEvent(QnaPostChangedEvent.deleted(post));
     }
     
     // Private helper methods
     
-    private Page<QnaPost> getMyPosts(QnaPostDTO.SearchRequest searchRequest, Long userId, Pageable pageable) {
-        if (searchRequest.getKeyword() != null && !searchRequest.getKeyword().trim().isEmpty()) {
-            return qnaPostRepository.searchMyPosts(userId, searchRequest.getKeyword().trim(), pageable);
+    /**
+     * 조회수 증가 (본인 글이 아니고 최근에 조회하지 않은 경우만)
+     */
+    private void recordView(Long qnaId, boolean owner, String viewerKey) {
+        if (!owner && viewDeduplicator.markIfFirstView(viewerKey, qnaId)) {
+            viewCountBuffer.increment(qnaId);
+            trendingTracker.recordView(qnaId);
         }
-        return qnaPostRepository.findByUserPidOrderByCreatedAtDesc(userId, pageable);
     }
     
-    private Page<QnaPost> getAdminPosts(QnaPostDTO.SearchRequest searchRequest, Pageable pageable) {
-        String keyword = searchRequest.getKeyword();
-        QnaPost.Category category = searchRequest.getCategory();
-        QnaPost.AnswerStatus status = searchRequest.getAnswerStatus();
-        
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            if (category != null) {
-                return qnaPostRepository.searchByCategoryAndKeyword(category, keyword.trim(), pageable);
-            }
-            return qnaPostRepository.searchAllPosts(keyword.trim(), pageable);
+    /**
+     * 목록 응답 검증값: 조회자, 전체 건수, 페이지 게시글별 (ID, 수정 시각, 답변 수)
+     * 삭제처럼 행에 드러나지 않는 변경은 마지막 변경 시각으로 Last-Modified 에 반영
+     */
+    private ResponseValidators listValidators(Page<QnaPost> posts, Long currentUserId, boolean isAdmin) {
+        ResponseValidators validators = ResponseValidators.of("list")
+                .add(currentUserId)
+                .add(isAdmin)
+                .add(posts.getTotalElements())
+                .modifiedAt(listResponseCache.lastChangedAt());
+        for (QnaPost post : posts.getContent()) {
+            // 답변 컬렉션은 2차 캐시 대상이며 DTO 변환에서도 사용
+            validators.add(post.getQnaId())
+                    .add(post.getVersion())
+                    .addTimestamp(post.getUpdatedAt())
+                    .add(post.getReplies() != null ? post.getReplies().size() : 0);
         }
-        
-        if (category != null) {
-            return qnaPostRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
+        return validators;
+    }
+    
+    private List<QnaPost> findPostsInOrder(List<Long> qnaIds) {
+        if (qnaIds.isEmpty()) {
+            return Collections.emptyList();
         }
-        
-        if (status != null) {
-            return qnaPostRepository.findByAnswerStatusOrderByCreatedAtDesc(status, pageable);
+        Map<Long, QnaPost> byId = qnaPostRepository.findByQnaIdIn(qnaIds).stream()
+                .collect(Collectors.toMap(QnaPost::getQnaId, Function.identity()));
+        return qnaIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+    
+    /**
+     * 수정 전 현재 게시글 조회 (권한, 기대 버전 확인)
+     */
+    private QnaPost findEditablePost(Long qnaId, Long userId, boolean isAdmin, long expectedVersion) {
+        QnaPost post = qnaPostRepository.findById(qnaId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        if (!post.isOwner(userId) && !isAdmin) {
+            throw new IllegalArgumentException("수정 권한이 없습니다.");
         }
-        
-        return qnaPostRepository.findAllByOrderByCreatedAtDesc(pageable);
+        if (expectedVersion != QnaPostColumnUpdater.ANY_VERSION && expectedVersion != post.getVersion()) {
+            throw new OptimisticLockingFailureException("다른 요청에서 먼저 수정된 게시글입니다.");
+        }
+        return post;
     }
     
-    private Page<QnaPost> getPublicPosts(QnaPostDTO.SearchRequest searchRequest, Pageable pageable) {
-        String keyword = searchRequest.getKeyword();
-        QnaPost.Category category = searchRequest.getCategory();
-        QnaPost.AnswerStatus status = searchRequest.getAnswerStatus();
-        
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            if (category != null) {
-                return qnaPostRepository.searchByCategoryAndUnlocked(category, keyword.trim(), pageable);
-            }
-            return qnaPostRepository.searchUnlockedPosts(keyword.trim(), pageable);
+    /**
+     * 요청 값이 있고 현재 값과 다를 때만 변경 목록에 추가
+     */
+    private void putIfChanged(Map<String, Object> changes, String attribute, Object currentValue, Object requestedValue) {
+        if (requestedValue != null && !requestedValue.equals(currentValue)) {
+            changes.put(attribute, requestedValue);
         }
-        
-        if (category != null) {
-            return qnaPostRepository.findByCategoryAndUnlocked(category, pageable);
+    }
+    
+    /**
+     * 공백뿐인 값은 수정하지 않음 (PUT 의 제목/내용)
+     */
+    private static String nonBlank(String value) {
+        return value != null && !value.trim().isEmpty() ? value : null;
+    }
+    
+    /**
+     * 조건부 UPDATE 가 0 건일 때 원인 판별 (실패한 경우에만 조회)
+     */
+    private RuntimeException updateFailure(Long qnaId, Long userId, boolean isAdmin) {
+        QnaPost post = qnaPostRepository.findById(qnaId).orElse(null);
+        if (post == null) {
+            return new IllegalArgumentException("게시글을 찾을 수 없습니다.");
         }
-        
-        if (status != null) {
-            return qnaPostRepository.findByAnswerStatusAndUnlocked(status, pageable);
+        if (!post.isOwner(userId) && !isAdmin) {
+            return new IllegalArgumentException("수정 권한이 없습니다.");
         }
-        
-        return qnaPostRepository.findAllUnlockedPosts(pageable);
+        return new OptimisticLockingFailureException("다른 요청에서 먼저 수정된 게시글입니다.");
     }
     
-    private void handleImageUpdate(QnaPost post, QnaPostDTO.UpdateRequest request, Long userId) {
-        // 기존 이미지 삭제 요청 처리
-        if (request.getDeleteImage() != null && request.getDeleteImage() && post.getImagePath() != null) {
-            try {
-                fileUploadUtil.deleteFile(post.getImagePath());
-                post.setImagePath(null);
-            } catch (Exception e) {
-                log.warn("기존 이미지 삭제 실패: " + post.getImagePath(), e);
-            }
+    private String uploadImage(MultipartFile imageFile, Long userId) {
+        try {
+            return fileUploadUtil.uploadQnaImage(imageFile, userId);
+        } catch (IOException e) {
+            log.error("새 이미지 업로드 실패: ", e);
+            throw new RuntimeException("이미지 업로드에 실패했습니다.");
         }
-        
-        // 새 이미지 업로드
-        if (request.getImageFile() != null && !request.getImageFile().isEmpty()) {
-            try {
-                // 기존 이미지가 있다면 삭제
-                if (post.getImagePath() != null) {
-                    fileUploadUtil.deleteFile(post.getImagePath());
-                }
-                
-                String newImagePath = fileUploadUtil.uploadQnaImage(request.getImageFile(), userId);
-                post.setImagePath(newImagePath);
-            } catch (IOException e) {
-                log.error("새 이미지 업로드 실패: ", e);
-                throw new RuntimeException("이미지 업로드에 실패했습니다.");
-            }
+    }
+    
+    private void deleteImageQuietly(String imagePath) {
+        if (imagePath == null || imagePath.isEmpty()) {
+            return;
+        }
+        try {
+            fileUploadUtil.deleteFile(imagePath);
+        } catch (Exception e) {
+            log.warn("이미지 파일 삭제 실패: " + imagePath, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package com.act2gether.repository;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.entity.QnaPost;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * QnA 게시글 목록/검색 조건 조합
+ * 키워드, 카테고리, 답변상태, 이미지 유무, 잠금 여부, 작성자 조건을 하나의 쿼리로 묶는다.
+ */
+public final class QnaPostSpecification {
+
+    // SecurityUtil.sanitizeSearchKeyword 에서 사용하는 LIKE 이스케이프 문자
+    private static final char LIKE_ESCAPE = '\\';
+
+    private QnaPostSpecification() {
+    }
+
+    /**
+     * 검색 요청과 사용자 권한으로 목록 조회 조건 생성
+     */
+    public static Specification<QnaPost> of(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin) {
+        Specification<QnaPost> spec = Specification.where(keywordContains(searchRequest.getKeyword()))
+                .and(categoryEquals(searchRequest.getCategory()))
+                .and(answerStatusEquals(searchRequest.getAnswerStatus()))
+                .and(hasImage(searchRequest.getHasImage()));
+
+        if (Boolean.TRUE.equals(searchRequest.getMyPostsOnly())) {
+            // 내 글만 보기 (잠금 여부와 무관)
+            return spec.and(ownedBy(currentUserId));
+        }
+        if (!isAdmin) {
+            // 일반 사용자는 잠금 해제된 글만 조회
+            return spec.and(unlockedOnly());
+        }
+        return spec;
+    }
+
+    /**
+     * 제목 또는 내용에 키워드 포함 (키워드는 이미 LIKE 이스케이프 처리된 값)
+     */
+    public static Specification<QnaPost> keywordContains(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        String pattern = "%" + keyword.trim().toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("content")), pattern, LIKE_ESCAPE)
+        );
+    }
+
+    public static Specification<QnaPost> categoryEquals(QnaPost.Category category) {
+        if (category == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    public static Specification<QnaPost> answerStatusEquals(QnaPost.AnswerStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("answerStatus"), status);
+    }
+
+    public static Specification<QnaPost> hasImage(Boolean hasImage) {
+        if (hasImage == null) {
+            return null;
+        }
+        if (hasImage) {
+            return (root, query, cb) -> cb.and(cb.isNotNull(root.get("imagePath")), cb.notEqual(root.get("imagePath"), ""));
+        }
+        return (root, query, cb) -> cb.or(cb.isNull(root.get("imagePath")), cb.equal(root.get("imagePath"), ""));
+    }
+
+    public static Specification<QnaPost> unlockedOnly() {
+        return (root, query, cb) -> cb.isFalse(root.get("isLocked"));
+    }
+
+    public static Specification<QnaPost> ownedBy(Long userPid) {
+        if (userPid == null) {
+            // 비로그인 사용자의 "내 글"은 항상 비어 있음
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> cb.equal(root.get("userPid"), userPid);
+    }
+}
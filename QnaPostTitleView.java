@@ -0,0 +1,19 @@
+package com.act2gether.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 제목/공개 범위만 조회하는 프로젝션 (본문 TEXT 컬럼 제외)
+ */
+public interface QnaPostTitleView {
+    
+    Long getQnaId();
+    
+    Long getUserPid();
+    
+    String getTitle();
+    
+    Boolean getIsLocked();
+    
+    LocalDateTime getCreatedAt();
+}
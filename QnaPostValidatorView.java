@@ -0,0 +1,24 @@
+package com.act2gether.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상세 조회 조건부 요청용 프로젝션 (권한 확인과 ETag 계산에 필요한 컬럼과 답변 통계)
+ */
+public interface QnaPostValidatorView {
+    
+    Long getQnaId();
+    
+    Long getUserPid();
+    
+    Boolean getIsLocked();
+    
+    LocalDateTime getUpdatedAt();
+    
+    Long getVersion();
+    
+    Long getReplyCount();
+    
+    // 답변이 없으면 null
+    LocalDateTime getLastReplyUpdatedAt();
+}
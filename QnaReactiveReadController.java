@@ -0,0 +1,149 @@
+package com.act2gether.controller;
+
+import com.act2gether.dto.ApiResponse;
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.entity.QnaPost;
+import com.act2gether.service.QnaReactiveReadService;
+import com.act2gether.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Positive;
+
+/**
+ * QnA 읽기 전용 리액티브 API (app.qna.reactive-read.enabled=true 일 때만 등록)
+ * - Mono 를 반환하므로 요청 스레드는 바로 반환되고, R2DBC 조회가 끝나면 비동기로 응답 (서블릿 async)
+ * - 응답 형식은 기존 목록/상세 API 와 동일 (목록의 facets 는 항상 null)
+ */
+@RestController
+@RequestMapping("/api/qna/reactive")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+@ConditionalOnProperty(name = "app.qna.reactive-read.enabled", havingValue = "true")
+public class QnaReactiveReadController {
+
+    private final QnaReactiveReadService reactiveReadService;
+    private final JwtUtil jwtUtil;
+
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse>> getQnaPosts(
+            @RequestParam(defaultValue = "0") @Min(0) @Max(1000) int page,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String answerStatus,
+            @RequestParam(required = false, defaultValue = "false") Boolean myPostsOnly,
+            @RequestParam(required = false) Boolean hasImage,
+            HttpServletRequest request) {
+
+        QnaPostDTO.SearchRequest searchRequest;
+        try {
+            searchRequest = QnaPostDTO.SearchRequest.builder()
+                    .page(page)
+                    .size(size)
+                    .category(category != null && !category.isEmpty() ? QnaPost.Category.valueOf(category) : null)
+                    .answerStatus(answerStatus != null && !answerStatus.isEmpty()
+                            ? QnaPost.AnswerStatus.valueOf(answerStatus) : null)
+                    .myPostsOnly(myPostsOnly)
+                    .hasImage(hasImage)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 요청 파라미터: {}", e.getMessage());
+            return Mono.just(createErrorResponse("잘못된 요청입니다.", HttpStatus.BAD_REQUEST));
+        }
+
+        UserInfo userInfo = extractUserInfo(request);
+        return reactiveReadService.getQnaPosts(searchRequest, userInfo.userId(), userInfo.admin())
+                .map(posts -> ResponseEntity.ok((ApiResponse) new ApiResponse.PageData<>(true, posts.getContent(),
+                        posts.getNumber(), posts.getTotalPages(), posts.getTotalElements(),
+                        posts.hasNext(), posts.hasPrevious(), null)))
+                .onErrorResume(e -> {
+                    log.error("QnA 목록 조회 중 오류 발생 (리액티브)", e);
+                    return Mono.just(createErrorResponse("서비스 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR));
+                });
+    }
+
+    @GetMapping("/{qnaId}")
+    public Mono<ResponseEntity<ApiResponse>> getQnaPost(
+            @PathVariable @Positive Long qnaId,
+            HttpServletRequest request) {
+
+        UserInfo userInfo = extractUserInfo(request);
+        return reactiveReadService.getQnaPost(qnaId, userInfo.userId(), userInfo.admin(), resolveViewerKey(userInfo, request))
+                .map(post -> ResponseEntity.ok((ApiResponse) ApiResponse.ok(post)))
+                .onErrorResume(e -> handleReadError(e, qnaId, "게시글을 찾을 수 없습니다."));
+    }
+
+    @GetMapping("/{qnaId}/replies")
+    public Mono<ResponseEntity<ApiResponse>> getReplies(
+            @PathVariable @Positive Long qnaId,
+            HttpServletRequest request) {
+
+        UserInfo userInfo = extractUserInfo(request);
+        return reactiveReadService.getReplies(qnaId, userInfo.userId(), userInfo.admin())
+                .map(replies -> ResponseEntity.ok((ApiResponse) ApiResponse.ok(replies)))
+                .onErrorResume(e -> handleReadError(e, qnaId, "답변을 불러오는데 실패했습니다."));
+    }
+
+    // Private helper methods
+
+    private Mono<ResponseEntity<ApiResponse>> handleReadError(Throwable e, Long qnaId, String failureMessage) {
+        if (e instanceof IllegalArgumentException) {
+            log.warn("게시글 접근 거부 - ID: {}, 사유: {}", qnaId, e.getMessage());
+            return Mono.just(createErrorResponse("접근 권한이 없습니다.", HttpStatus.FORBIDDEN));
+        }
+        log.error("게시글 조회 중 오류 발생 (리액티브) - ID: {}", qnaId, e);
+        return Mono.just(createErrorResponse(failureMessage, HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * 토큰에서 사용자 정보 추출 (SecureQnaController 와 같은 규칙, 요청 스레드에서 수행)
+     */
+    private UserInfo extractUserInfo(HttpServletRequest request) {
+        String token = jwtUtil.extractTokenFromRequest(request);
+        if (token == null || token.isEmpty()) {
+            return new UserInfo(null, false);
+        }
+
+        try {
+            if (jwtUtil.validateToken(token)) {
+                return new UserInfo(jwtUtil.getUserIdFromToken(token),
+                        "admin".equals(jwtUtil.getUserAccountFromToken(token)));
+            }
+        } catch (Exception e) {
+            log.warn("JWT 토큰 검증 실패 - IP: {}", getClientIpAddress(request), e);
+        }
+        return new UserInfo(null, false);
+    }
+
+    private String resolveViewerKey(UserInfo userInfo, HttpServletRequest request) {
+        if (userInfo.userId() != null) {
+            return "u:" + userInfo.userId();
+        }
+        return "ip:" + getClientIpAddress(request);
+    }
+
+    private String getClientIpAddress(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            return xForwardedFor.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private ResponseEntity<ApiResponse> createErrorResponse(String message, HttpStatus status) {
+        return ResponseEntity.status(status).body(ApiResponse.failure(message));
+    }
+
+    private record UserInfo(Long userId, boolean admin) {
+    }
+}
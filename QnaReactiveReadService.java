@@ -0,0 +1,95 @@
+package com.act2gether.service;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.dto.QnaReplyDTO;
+import com.act2gether.entity.QnaPost;
+import com.act2gether.repository.QnaPostReactiveReader;
+import com.act2gether.search.QnaTrendingTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * QnA 읽기 전용 리액티브 조회 (목록, 상세, 답변)
+ * - R2DBC 로 조회하므로 DB 응답을 기다리는 동안 요청 스레드와 JDBC 커넥션을 점유하지 않음
+ * - 열람 권한은 QnaPost.canView 와 같은 규칙을 사용
+ * - 상세 조회수는 서블릿 경로와 같은 메모리 버퍼(QnaViewCountBuffer)에 집계
+ * - 키워드 검색과 인기/관련도 정렬은 메모리 색인을 쓰는 기존 목록 API 에서만 제공 (여기서는 최신순)
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.qna.reactive-read.enabled", havingValue = "true")
+public class QnaReactiveReadService {
+
+    private final QnaPostReactiveReader reader;
+    private final QnaViewCountBuffer viewCountBuffer;
+    private final QnaViewDeduplicator viewDeduplicator;
+    private final QnaTrendingTracker trendingTracker;
+
+    /**
+     * QnA 게시글 목록 조회 (최신순, 페이지와 전체 건수를 동시에 조회)
+     */
+    public Mono<Page<QnaPostDTO.ListResponse>> getQnaPosts(QnaPostDTO.SearchRequest searchRequest,
+                                                           Long currentUserId, boolean isAdmin) {
+        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize());
+        if (Boolean.TRUE.equals(searchRequest.getMyPostsOnly()) && currentUserId == null) {
+            // 비로그인 사용자의 "내 글"은 항상 비어 있음
+            return Mono.just(new PageImpl<>(Collections.emptyList(), pageable, 0));
+        }
+
+        return Mono.zip(
+                        reader.findPage(searchRequest, currentUserId, isAdmin).collectList(),
+                        reader.count(searchRequest, currentUserId, isAdmin))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    /**
+     * QnA 게시글 상세 조회 (답변 포함)
+     */
+    public Mono<QnaPostDTO.Response> getQnaPost(Long qnaId, Long currentUserId, boolean isAdmin, String viewerKey) {
+        return findViewablePost(qnaId, currentUserId, isAdmin)
+                .flatMap(post -> reader.findReplies(qnaId).collectList().map(replies -> {
+                    recordView(qnaId, Boolean.TRUE.equals(post.getIsOwner()), viewerKey);
+                    post.setReplies(replies);
+                    post.setReplyCount(replies.size());
+                    post.setViewCount(post.getViewCount() + (int) viewCountBuffer.pendingCount(qnaId));
+                    return post;
+                }));
+    }
+
+    /**
+     * QnA 답변 목록 조회 (게시글 열람 권한 확인 후)
+     */
+    public Mono<List<QnaReplyDTO.Response>> getReplies(Long qnaId, Long currentUserId, boolean isAdmin) {
+        return findViewablePost(qnaId, currentUserId, isAdmin)
+                .flatMap(post -> reader.findReplies(qnaId).collectList());
+    }
+
+    // Private helper methods
+
+    private Mono<QnaPostDTO.Response> findViewablePost(Long qnaId, Long currentUserId, boolean isAdmin) {
+        return reader.findDetail(qnaId, currentUserId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다.")))
+                .flatMap(post -> QnaPost.canView(post.getIsLocked(), post.getUserPid(), currentUserId, isAdmin)
+                        ? Mono.just(post)
+                        : Mono.error(new IllegalArgumentException("잠긴 게시글입니다.")));
+    }
+
+    /**
+     * 조회수 증가 (QnaPostService 와 동일: 본인 글이 아니고 최근에 조회하지 않은 경우만)
+     */
+    private void recordView(Long qnaId, boolean owner, String viewerKey) {
+        if (!owner && viewDeduplicator.markIfFirstView(viewerKey, qnaId)) {
+            viewCountBuffer.increment(qnaId);
+            trendingTracker.recordView(qnaId);
+        }
+    }
+}
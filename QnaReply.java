@@ -1,24 +1,40 @@
 package com.act2gether.entity;
 
+import com.act2gether.config.PooledTableIdGenerator;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.TableGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "qna_replies")
+@Table(name = "qna_replies", indexes = {
+        // 관리자별 답변 이력 keyset 조회용 인덱스
+        @Index(name = "idx_qna_replies_admin_created", columnList = "관리자_유저_pid, 생성날, 답변_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = QnaReply.CACHE_REGION)
 public class QnaReply {
     
+    // 2차 캐시 영역 이름
+    public static final String CACHE_REGION = "qna_replies";
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "qna_reply_id")
+    @GenericGenerator(name = "qna_reply_id", strategy = PooledTableIdGenerator.STRATEGY,
+            parameters = @Parameter(name = TableGenerator.SEGMENT_VALUE_PARAM, value = "qna_replies"))
     @Column(name = "답변_id")
     private Long replyId;
     
@@ -41,6 +57,12 @@ public class QnaReply {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
     
+    // 낙관적 잠금 버전 (수정 시 If-Match 로 비교, 기존 행은 0 으로 시작)
+    // 새 엔티티는 null 로 두어 save() 가 persist 로 처리되도록 함
+    @Version
+    @Column(name = "버전", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long version;
+    
     // 연관관계 매핑
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "qna_id", insertable = false, updatable = false)
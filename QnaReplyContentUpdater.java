@@ -0,0 +1,18 @@
+package com.act2gether.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답변 내용 수정 (작성 관리자/기대 버전 조건을 WHERE 절에 넣은 단일 조건부 UPDATE)
+ * QnaReplyRepository 에 fragment 로 포함된다.
+ */
+public interface QnaReplyContentUpdater {
+    
+    /**
+     * 답변 내용과 업데이트날/버전을 갱신
+     * 작성 관리자와 버전이 조건에 맞지 않으면 0 을 반환한다.
+     *
+     * @param expectedVersion 기대 버전 (QnaPostColumnUpdater.ANY_VERSION 이면 버전 조건 없음)
+     */
+    int updateContent(Long replyId, Long adminUserPid, String content, long expectedVersion, LocalDateTime now);
+}
@@ -0,0 +1,83 @@
+package com.act2gether.repository;
+
+import com.act2gether.cache.QnaSecondLevelCacheEvictor;
+import com.act2gether.entity.QnaReply;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+/**
+ * QnaReplyContentUpdater 구현 (네이티브 UPDATE)
+ * JPQL 벌크 UPDATE 는 qna_replies 2차 캐시 영역 전체를 비우므로, 어떤 엔티티 테이블과도 겹치지 않는
+ * 쿼리 공간을 지정해 영역 무효화를 막고 수정한 답변 한 건만 캐시에서 제거한다.
+ * 영속성 컨텍스트 전체를 비우지 않고 해당 답변만 분리해 이후 조회가 DB 값을 읽도록 한다.
+ * (게시글의 replies 컬렉션 캐시는 REPLY_UPDATED 이벤트 커밋 후 QnaSecondLevelCacheEvictor 에서 제거)
+ */
+@RequiredArgsConstructor
+public class QnaReplyContentUpdaterImpl implements QnaReplyContentUpdater {
+
+    // 2차 캐시 영역과 연결되지 않는 쿼리 공간 (query cache 는 HibernateConfig 에서 비활성화)
+    private static final String QUERY_SPACE = "qna_replies_content_update";
+
+    private final EntityManager entityManager;
+    private final QnaSecondLevelCacheEvictor cacheEvictor;
+
+    @Override
+    public int updateContent(Long replyId, Long adminUserPid, String content, long expectedVersion, LocalDateTime now) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .entityPersister(QnaReply.class);
+        String versionColumn = persister.getVersionColumnName();
+
+        String sql = "UPDATE " + persister.getTableName()
+                + " SET " + column(persister, "replyContent") + " = :content, "
+                + column(persister, "updatedAt") + " = :now, "
+                + versionColumn + " = " + versionColumn + " + 1"
+                + " WHERE " + persister.getIdentifierColumnNames()[0] + " = :replyId"
+                + " AND " + column(persister, "adminUserPid") + " = :adminUserPid";
+        if (expectedVersion != QnaPostColumnUpdater.ANY_VERSION) {
+            sql += " AND " + versionColumn + " = :expectedVersion";
+        }
+
+        entityManager.flush();
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(QUERY_SPACE);
+        query.setParameter("content", content);
+        query.setParameter("now", now);
+        query.setParameter("replyId", replyId);
+        query.setParameter("adminUserPid", adminUserPid);
+        if (expectedVersion != QnaPostColumnUpdater.ANY_VERSION) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+        int updated = query.executeUpdate();
+        if (updated > 0) {
+            detach(persister, replyId);
+            cacheEvictor.evictReply(replyId);
+        }
+        return updated;
+    }
+
+    // Private helper methods
+
+    /**
+     * 이미 로딩된 답변이 있으면 그 한 건만 영속성 컨텍스트에서 분리
+     */
+    private void detach(AbstractEntityPersister persister, Long replyId) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        Object managed = session.getPersistenceContext().getEntity(session.generateEntityKey(replyId, persister));
+        if (managed != null) {
+            entityManager.detach(managed);
+        }
+    }
+
+    private String column(AbstractEntityPersister persister, String attribute) {
+        return persister.getPropertyColumnNames(attribute)[0];
+    }
+}
@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class QnaReplyDTO {
     
@@ -56,6 +57,8 @@ public class QnaReplyDTO {
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         private LocalDateTime updatedAt;
         
+        private Long version; // 수정 시 If-Match 로 전송
+        
         // Entity to DTO 변환
         public static Response from(QnaReply entity) {
             return Response.builder()
@@ -66,7 +69,20 @@ public class QnaReplyDTO {
                     .replyContent(entity.getReplyContent())
                     .createdAt(entity.getCreatedAt())
                     .updatedAt(entity.getUpdatedAt())
+                    .version(entity.getVersion())
                     .build();
         }
     }
+    
+    // 관리자 답변 이력 페이지 응답 DTO (keyset 커서)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HistoryPage {
+        
+        private List<Response> replies;
+        private String nextCursor; // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+        private boolean hasNext;
+    }
 }
\ No newline at end of file
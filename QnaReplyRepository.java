@@ -1,24 +1,62 @@
 package com.act2gether.repository;
 
 import com.act2gether.entity.QnaReply;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
-public interface QnaReplyRepository extends JpaRepository<QnaReply, Long> {
+public interface QnaReplyRepository extends JpaRepository<QnaReply, Long>, QnaReplyContentUpdater {
+    
+    // 답변 이력 스트리밍 시 한 번에 가져오는 행 수 (MySQL 은 useCursorFetch=true 일 때만 적용, 아니면 QnaReplyService 가 이 크기의 페이지 조회로 대체)
+    int STREAM_FETCH_SIZE = 500;
     
     // 특정 QnA 게시글의 모든 답변 조회 (최신순)
     List<QnaReply> findByQnaIdOrderByCreatedAtDesc(Long qnaId);
     
+    // 답변 내용 수정(updateContent)은 QnaReplyContentUpdater 에서 처리
+    // (JPQL 벌크 UPDATE 는 2차 캐시 영역 전체를 비우므로 네이티브 UPDATE 후 해당 답변만 제거)
+    
     // 특정 QnA 게시글의 답변 개수
     Long countByQnaId(Long qnaId);
     
-    // 특정 관리자가 작성한 답변 조회
-    List<QnaReply> findByAdminUserPidOrderByCreatedAtDesc(Long adminUserPid);
+    // 관리자 답변 이력 첫 페이지 (최신순)
+    @Query("SELECT r FROM QnaReply r WHERE r.adminUserPid = :adminUserPid " +
+           "ORDER BY r.createdAt DESC, r.replyId DESC")
+    List<QnaReply> findAdminHistory(@Param("adminUserPid") Long adminUserPid, Pageable pageable);
+    
+    // 관리자 답변 이력 다음 페이지: (생성날, 답변_id) 커서 이후만 조회 (OFFSET 없이 인덱스 범위 탐색)
+    @Query("SELECT r FROM QnaReply r WHERE r.adminUserPid = :adminUserPid " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.replyId < :replyId)) " +
+           "ORDER BY r.createdAt DESC, r.replyId DESC")
+    List<QnaReply> findAdminHistoryAfter(
+        @Param("adminUserPid") Long adminUserPid,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("replyId") Long replyId,
+        Pageable pageable
+    );
+    
+    // 관리자 답변 이력 전체 스트리밍 (전방향 커서, 트랜잭션 안에서 사용 후 닫아야 함)
+    @Query("SELECT r FROM QnaReply r WHERE r.adminUserPid = :adminUserPid " +
+           "ORDER BY r.createdAt DESC, r.replyId DESC")
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HINT_READONLY, value = "true"),
+        @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<QnaReply> streamAdminHistory(@Param("adminUserPid") Long adminUserPid);
     
     // QnA별 최신 답변 조회
     @Query("SELECT r FROM QnaReply r WHERE r.qnaId = :qnaId ORDER BY r.createdAt DESC LIMIT 1")
@@ -3,14 +3,26 @@ package com.act2gether.service;
 import com.act2gether.dto.QnaReplyDTO;
 import com.act2gether.entity.QnaPost;
 import com.act2gether.entity.QnaReply;
+import com.act2gether.event.QnaPostChangedEvent;
 import com.act2gether.repository.QnaPostRepository;
 import com.act2gether.repository.QnaReplyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +32,31 @@ public class QnaReplyService {
     
     private final QnaReplyRepository qnaReplyRepository;
     private final QnaPostRepository qnaPostRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+    
+    @Value("${spring.datasource.hikari.data-source-properties.useCursorFetch:false}")
+    private boolean cursorFetchProperty;
+    
+    // 서버 커서 스트리밍 사용 여부 (false 면 답변 이력 내보내기를 keyset 페이지 조회로 처리)
+    private boolean cursorStreaming;
+    
+    /**
+     * MySQL 은 useCursorFetch=true 일 때만 streamAdminHistory 의 fetch size 가 적용됨
+     * (없으면 드라이버가 결과 전체를 메모리에 올리므로 내보내기만 페이지 조회로 전환)
+     */
+    @PostConstruct
+    public void checkCursorFetch() {
+        cursorStreaming = !datasourceUrl.startsWith("jdbc:mysql:") || cursorFetchProperty
+                || datasourceUrl.contains("useCursorFetch=true");
+        if (!cursorStreaming) {
+            log.warn("MySQL 연결에 useCursorFetch=true 설정이 없어 답변 이력 내보내기를 {}건 단위 페이지 조회로 처리합니다.",
+                    QnaReplyRepository.STREAM_FETCH_SIZE);
+        }
+    }
     
     /**
      * QnA 답변 목록 조회
@@ -41,9 +78,11 @@ public class QnaReplyService {
             throw new IllegalArgumentException("답변 작성 권한이 없습니다.");
         }
         
-        // QnA 게시글 존재 확인
-        QnaPost qnaPost = qnaPostRepository.findById(qnaId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        // 답변상태 변경 (게시글 로딩 없이 단일 UPDATE, 변경된 행이 없으면 게시글 없음)
+        int updated = qnaPostRepository.updateAnswerStatus(qnaId, QnaPost.AnswerStatus.답변완료, LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalArgumentException("게시글을 찾을 수 없습니다.");
+        }
         
         // 답변 생성
         QnaReply reply = QnaReply.builder()
@@ -53,42 +92,48 @@ public class QnaReplyService {
                 .build();
         
         QnaReply savedReply = qnaReplyRepository.save(reply);
-        
-        // QnA 게시글 답변 상태 업데이트
-        qnaPost.setAnswerStatus(QnaPost.AnswerStatus.답변완료);
-        qnaPostRepository.save(qnaPost);
+        QnaReplyDTO.Response response = QnaReplyDTO.Response.from(savedReply);
+        eventPublisher.publishEvent(QnaPostChangedEvent.replyCreated(response, QnaPost.AnswerStatus.답변완료));
         
         log.info("QnA 답변 생성 완료 - QnA ID: {}, 관리자 ID: {}", qnaId, adminUserId);
         
-        return QnaReplyDTO.Response.from(savedReply);
+        return response;
     }
     
     /**
      * QnA 답변 수정 (관리자만)
+     * 작성 관리자와 기대 버전 확인을 WHERE 절에 넣은 단일 조건부 UPDATE 로 처리
+     *
+     * @param expectedVersion If-Match 로 받은 버전 (없으면 QnaPostColumnUpdater.ANY_VERSION)
      */
     @Transactional
-    public QnaReplyDTO.Response updateReply(Long replyId, QnaReplyDTO.UpdateRequest request, Long adminUserId, boolean isAdmin) {
+    public QnaReplyDTO.Response updateReply(Long replyId, QnaReplyDTO.UpdateRequest request, Long adminUserId, boolean isAdmin,
+                                            long expectedVersion) {
         // 관리자 권한 확인
         if (!isAdmin) {
             throw new IllegalArgumentException("답변 수정 권한이 없습니다.");
         }
         
+        int updated = qnaReplyRepository.updateContent(
+                replyId, adminUserId, request.getReplyContent(), expectedVersion, LocalDateTime.now());
+        
+        // 수정 결과 조회 (응답/이벤트용), 0 건이면 원인 판별
         QnaReply reply = qnaReplyRepository.findById(replyId)
                 .orElseThrow(() -> new IllegalArgumentException("답변을 찾을 수 없습니다."));
-        
-        // 답변 작성자 확인 (다른 관리자가 작성한 답변 수정 방지)
-        if (!reply.getAdminUserPid().equals(adminUserId)) {
-            throw new IllegalArgumentException("다른 관리자의 답변은 수정할 수 없습니다.");
+        if (updated == 0) {
+            // 답변 작성자 확인 (다른 관리자가 작성한 답변 수정 방지)
+            if (!reply.getAdminUserPid().equals(adminUserId)) {
+                throw new IllegalArgumentException("다른 관리자의 답변은 수정할 수 없습니다.");
+            }
+            throw new OptimisticLockingFailureException("다른 요청에서 먼저 수정된 답변입니다.");
         }
         
-        // 답변 내용 업데이트
-        reply.setReplyContent(request.getReplyContent());
-        
-        QnaReply updatedReply = qnaReplyRepository.save(reply);
+        eventPublisher.publishEvent(QnaPostChangedEvent.reply(
+                QnaPostChangedEvent.Type.REPLY_UPDATED, reply.getQnaId(), null));
         
         log.info("QnA 답변 수정 완료 - 답변 ID: {}, 관리자 ID: {}", replyId, adminUserId);
         
-        return QnaReplyDTO.Response.from(updatedReply);
+        return QnaReplyDTO.Response.from(reply);
     }
     
     /**
@@ -111,19 +156,15 @@ public class QnaReplyService {
         
         Long qnaId = reply.getQnaId();
         
-        // 답변 삭제
+        // 답변 삭제 후, 남은 답변이 없을 때만 '답변대기'로 변경 (조건부 UPDATE 한 번)
+        // 이미 로딩한 엔티티로 삭제해 2차 캐시에서 이 답변만 제거 (JPQL DELETE 는 답변 영역 전체를 비움)
         qnaReplyRepository.delete(reply);
+        int updated = qnaPostRepository.updateAnswerStatusIfNoReplies(
+                qnaId, QnaPost.AnswerStatus.답변대기, LocalDateTime.now());
+        QnaPost.AnswerStatus changedStatus = updated > 0 ? QnaPost.AnswerStatus.답변대기 : null;
         
-        // 해당 QnA의 다른 답변이 있는지 확인
-        Long remainingReplyCount = qnaReplyRepository.countByQnaId(qnaId);
-        
-        // 답변이 더 이상 없으면 QnA 상태를 '답변대기'로 변경
-        if (remainingReplyCount == 0) {
-            QnaPost qnaPost = qnaPostRepository.findById(qnaId)
-                    .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-            qnaPost.setAnswerStatus(QnaPost.AnswerStatus.답변대기);
-            qnaPostRepository.save(qnaPost);
-        }
+        eventPublisher.publishEvent(QnaPostChangedEvent.reply(
+                QnaPostChangedEvent.Type.REPLY_DELETED, qnaId, changedStatus));
         
         log.info("QnA 답변 삭제 완료 - 답변 ID: {}, 관리자 ID: {}", replyId, adminUserId);
     }
@@ -136,12 +177,92 @@ public class QnaReplyService {
     }
     
     /**
-     * 특정 관리자가 작성한 답변 목록 조회
+     * 특정 관리자가 작성한 답변 이력 조회 (최신순, keyset 커서 페이징)
      */
-    public List<QnaReplyDTO.Response> getRepliesByAdmin(Long adminUserId) {
-        List<QnaReply> replies = qnaReplyRepository.findByAdminUserPidOrderByCreatedAtDesc(adminUserId);
-        return replies.stream()
-                .map(QnaReplyDTO.Response::from)
-                .toList();
+    public QnaReplyDTO.HistoryPage getRepliesByAdmin(Long adminUserId, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<QnaReply> replies;
+        if (cursor == null || cursor.isEmpty()) {
+            replies = qnaReplyRepository.findAdminHistory(adminUserId, limit);
+        } else {
+            HistoryCursor position = HistoryCursor.decode(cursor);
+            replies = qnaReplyRepository.findAdminHistoryAfter(
+                    adminUserId, position.createdAt, position.replyId, limit);
+        }
+        
+        boolean hasNext = replies.size() > size;
+        List<QnaReply> page = hasNext ? replies.subList(0, size) : replies;
+        String nextCursor = hasNext ? HistoryCursor.encode(page.get(page.size() - 1)) : null;
+        
+        return QnaReplyDTO.HistoryPage.builder()
+                .replies(page.stream().map(QnaReplyDTO.Response::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+    
+    /**
+     * 특정 관리자가 작성한 답변 이력 전체를 한 건씩 전달 (전방향 커서 스트리밍)
+     * 전달한 답변은 영속성 컨텍스트에서 분리하므로 이력 길이와 무관하게 메모리 사용량이 일정하다.
+     * 서버 커서를 쓸 수 없으면 STREAM_FETCH_SIZE 건씩 keyset 페이지로 조회해 같은 순서로 전달한다.
+     */
+    public void streamRepliesByAdmin(Long adminUserId, Consumer<QnaReplyDTO.Response> consumer) {
+        if (!cursorStreaming) {
+            forEachHistoryPage(adminUserId, consumer);
+            return;
+        }
+        try (Stream<QnaReply> replies = qnaReplyRepository.streamAdminHistory(adminUserId)) {
+            replies.forEach(reply -> {
+                consumer.accept(QnaReplyDTO.Response.from(reply));
+                entityManager.detach(reply);
+            });
+        }
+    }
+    
+    private void forEachHistoryPage(Long adminUserId, Consumer<QnaReplyDTO.Response> consumer) {
+        PageRequest limit = PageRequest.of(0, QnaReplyRepository.STREAM_FETCH_SIZE);
+        List<QnaReply> page = qnaReplyRepository.findAdminHistory(adminUserId, limit);
+        while (!page.isEmpty()) {
+            for (QnaReply reply : page) {
+                consumer.accept(QnaReplyDTO.Response.from(reply));
+                entityManager.detach(reply);
+            }
+            if (page.size() < limit.getPageSize()) {
+                break;
+            }
+            QnaReply last = page.get(page.size() - 1);
+            page = qnaReplyRepository.findAdminHistoryAfter(adminUserId, last.getCreatedAt(), last.getReplyId(), limit);
+        }
+    }
+    
+    /**
+     * 답변 이력 커서 ((생성날, 답변_id) 를 URL-safe Base64 로 인코딩)
+     */
+    private static final class HistoryCursor {
+        private final LocalDateTime createdAt;
+        private final Long replyId;
+        
+        private HistoryCursor(LocalDateTime createdAt, Long replyId) {
+            this.createdAt = createdAt;
+            this.replyId = replyId;
+        }
+        
+        static String encode(QnaReply reply) {
+            String raw = reply.getCreatedAt() + "|" + reply.getReplyId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+        
+        static HistoryCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new HistoryCursor(
+                        LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,721 @@
+package com.act2gether.search;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.entity.QnaPost;
+import com.act2gether.event.QnaPostChangedEvent;
+import com.act2gether.repository.QnaPostRepository;
+import com.act2gether.repository.QnaPostSearchView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * QnA 제목/내용 검색용 메모리 역색인
+ * - 형태소 분석 없이 한글에 잘 맞는 문자 2-gram(bigram) 단위로 색인
+ * - 포스팅 리스트는 delta + varint 로 압축한 ID 배열 (PostingList)
+ * - 수정/삭제는 포스팅 리스트를 다시 인코딩하지 않고 게시글의 색인 세대(generation)를 바꿔 이전 항목을 무효화
+ *   (무효 항목이 유효 항목보다 많아지면 주기 작업에서 전체 재색인)
+ * - bigram 교집합은 후보만 보장하므로, 정규화한 제목과 deflate 로 압축한 정규화 본문을 함께 보관해
+ *   페이지를 고르기 전에 실제 부분 문자열 일치를 확인 (전체 건수도 확인된 게시글만 계산)
+ * - 키워드 + 카테고리/잠금/답변상태/작성자 조건을 메모리에서 처리하고, 요청한 페이지의 ID 만 반환
+ * - sort=relevance 는 BM25(제목 가중치 적용)로 점수를 매기고 top-k 힙으로 요청 페이지까지만 유지
+ * 애플리케이션 시작 시 전체를 색인하고, 이후에는 게시글/답변 변경 이벤트로 증분 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QnaSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 500;
+
+    // 무효 포스팅 항목이 이 값과 유효 항목 수 중 큰 값을 넘으면 재색인
+    private static final long MIN_STALE_ENTRIES_FOR_REBUILD = 100_000;
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 점수 내림차순, 같은 점수(최신순 정렬 시 모두 0)는 최신 글 우선
+    private static final Comparator<ScoredPost> RANKING =
+            Comparator.comparingDouble((ScoredPost scored) -> scored.score)
+                    .thenComparingLong(scored -> scored.post.getCreatedAt())
+                    .thenComparingLong(scored -> scored.post.getQnaId())
+                    .reversed();
+
+    // 제목 출현에 대한 가중치 (내용 = 1.0)
+    @Value("${app.qna.search.title-boost:3.0}")
+    private double titleBoost;
+
+    private final QnaPostRepository qnaPostRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+
+    // 색인 생성 중 도착한 변경 이벤트 (생성 완료 후 순서대로 재적용)
+    private final List<QnaPostChangedEvent> pendingEvents = new ArrayList<>();
+    private volatile boolean ready;
+    private boolean rebuilding;
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+
+    /**
+     * 전체 색인 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                rebuilding = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // qnaId 커서로 다음 묶음 조회 (생성 중 삭제가 있어도 다른 게시글을 건너뛰지 않음)
+            IndexData newData = new IndexData();
+            long lastId = 0L;
+            List<QnaPostSearchView> batch;
+            do {
+                batch = qnaPostRepository.findSearchViewsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                for (QnaPostSearchView view : batch) {
+                    newData.upsert(view.getQnaId(), view.getUserPid(), view.getCategory(), view.getAnswerStatus(),
+                            view.getIsLocked(), view.getImagePath(), view.getCreatedAt(),
+                            view.getTitle(), view.getContent());
+                    lastId = view.getQnaId();
+                }
+            } while (batch.size() == BUILD_BATCH_SIZE);
+
+            lock.writeLock().lock();
+            try {
+                data = newData;
+                pendingEvents.forEach(this::apply);
+                pendingEvents.clear();
+                rebuilding = false;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("QnA 검색 색인 생성 완료 - 게시글: {}, bigram: {}, 소요: {}ms",
+                    newData.posts.size(), newData.postings.size(), System.currentTimeMillis() - started);
+        } finally {
+            rebuildRunning.set(false);
+        }
+    }
+
+    /**
+     * 무효 포스팅 항목이 많이 쌓였으면 재색인 (수정/삭제된 게시글의 이전 세대 항목 정리)
+     */
+    @Scheduled(fixedDelayString = "${app.qna.search.compaction-check-interval-ms:60000}")
+    public void rebuildIfStale() {
+        long stale;
+        long live;
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return;
+            }
+            stale = data.staleEntries();
+            live = data.liveEntries;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (stale > Math.max(live, MIN_STALE_ENTRIES_FOR_REBUILD)) {
+            log.info("QnA 검색 색인 재생성 - 무효 항목: {}, 유효 항목: {}", stale, live);
+            rebuild();
+        }
+    }
+
+    /**
+     * 게시글/답변 변경 커밋 후 증분 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaPostChanged(QnaPostChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilding || !ready) {
+                // 새 색인은 이미 읽은 DB 내용으로 만들어지므로 교체 직후 다시 적용
+                pendingEvents.add(event);
+            }
+            if (!ready) {
+                return;
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인으로 처리 가능한 키워드인지 확인 (bigram 을 만들 수 없는 1글자 검색은 DB 로 처리)
+     */
+    public boolean canServe(String keyword) {
+        return ready && normalizeKeyword(keyword).length() >= 2;
+    }
+
+    /**
+     * 키워드 + 필터 검색 후 요청한 페이지의 게시글 ID 와 전체 건수 반환
+     * 정렬은 최신순, sort=relevance 인 경우 BM25 점수순
+     */
+    public SearchHits search(QnaPostDTO.SearchRequest searchRequest, Long currentUserId, boolean isAdmin) {
+        String keyword = normalizeKeyword(searchRequest.getKeyword());
+        boolean byRelevance = searchRequest.getSort() == QnaPostDTO.SortType.RELEVANCE;
+        int limit = (searchRequest.getPage() + 1) * searchRequest.getSize();
+
+        lock.readLock().lock();
+        try {
+            List<PostingList.Decoded> postingLists = decodeAll(keyword);
+            if (postingLists == null) {
+                return new SearchHits(Collections.emptyList(), 0);
+            }
+
+            // 상위 limit 건만 유지하는 최소 힙 (가장 낮은 순위가 head)
+            PriorityQueue<ScoredPost> topK = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            long total = 0;
+            for (long qnaId : intersect(postingLists)) {
+                IndexedPost post = data.posts.get(qnaId);
+                if (post == null || !isCurrent(post, postingLists)
+                        || !isVisible(post, searchRequest, currentUserId, isAdmin)
+                        || !containsKeyword(post, keyword)) {
+                    continue;
+                }
+                total++;
+                double score = byRelevance ? score(post, postingLists) : 0.0;
+                topK.offer(new ScoredPost(post, score));
+                if (topK.size() > limit) {
+                    topK.poll();
+                }
+            }
+
+            List<ScoredPost> ranked = new ArrayList<>(topK);
+            ranked.sort(RANKING);
+            int from = Math.min(searchRequest.getPage() * searchRequest.getSize(), ranked.size());
+            List<Long> pageIds = new ArrayList<>(ranked.size() - from);
+            for (int i = from; i < ranked.size(); i++) {
+                pageIds.add(ranked.get(i).post.getQnaId());
+            }
+            return new SearchHits(pageIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 생성 완료 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 게시글 열람 가능 여부 (QnaPost.canView 와 동일한 규칙, 색인에 없는 게시글은 관리자만)
+     */
+    public boolean isVisibleTo(Long qnaId, Long currentUserId, boolean isAdmin) {
+        if (isAdmin) {
+            return true;
+        }
+        lock.readLock().lock();
+        try {
+            IndexedPost post = data.posts.get(qnaId);
+            return post != null
+                    && (!post.isLocked() || (post.getUserPid() != null && post.getUserPid().equals(currentUserId)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 외부에서 순위를 정한 ID 목록(예: 인기순)에 목록 조건을 적용해 요청한 페이지의 ID 와 전체 건수 반환
+     * 순서는 입력 순서를 유지한다. 키워드는 canServe 를 통과한 경우만 전달할 것
+     */
+    public SearchHits filter(List<Long> rankedIds, QnaPostDTO.SearchRequest searchRequest,
+                             Long currentUserId, boolean isAdmin) {
+        String keyword = normalizeKeyword(searchRequest.getKeyword());
+        int from = searchRequest.getPage() * searchRequest.getSize();
+        int to = from + searchRequest.getSize();
+
+        lock.readLock().lock();
+        try {
+            List<PostingList.Decoded> postingLists = keyword.isEmpty() ? Collections.emptyList() : decodeAll(keyword);
+            if (postingLists == null) {
+                return new SearchHits(Collections.emptyList(), 0);
+            }
+            List<Long> pageIds = new ArrayList<>(searchRequest.getSize());
+            long total = 0;
+            for (Long qnaId : rankedIds) {
+                IndexedPost post = data.posts.get(qnaId);
+                if (post == null || !isVisible(post, searchRequest, currentUserId, isAdmin)
+                        || !(postingLists.isEmpty()
+                                || (isCurrent(post, postingLists) && containsKeyword(post, keyword)))) {
+                    continue;
+                }
+                if (total >= from && total < to) {
+                    pageIds.add(qnaId);
+                }
+                total++;
+            }
+            return new SearchHits(pageIds, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Private helper methods
+
+    /**
+     * bigram 이 모두 일치한 후보가 키워드를 실제로 포함하는지 확인
+     * 2글자 키워드는 bigram 하나이므로 현재 세대 항목이 있으면 이미 일치
+     */
+    private static boolean containsKeyword(IndexedPost post, String keyword) {
+        return keyword.length() <= 2 || post.contains(keyword);
+    }
+
+    /**
+     * 키워드의 bigram 별 포스팅 리스트 디코딩 (하나라도 없으면 null)
+     */
+    private List<PostingList.Decoded> decodeAll(String keyword) {
+        Set<Integer> grams = bigrams(keyword);
+        List<PostingList.Decoded> postingLists = new ArrayList<>(grams.size());
+        for (Integer gram : grams) {
+            PostingList list = data.postings.get(gram);
+            if (list == null) {
+                return null;
+            }
+            postingLists.add(list.decode());
+        }
+        return postingLists;
+    }
+
+    /**
+     * 모든 포스팅 리스트에 게시글의 현재 세대 항목이 있는지 확인 (수정 전/삭제된 내용의 항목 제외)
+     */
+    private static boolean isCurrent(IndexedPost post, List<PostingList.Decoded> postingLists) {
+        for (PostingList.Decoded postings : postingLists) {
+            int index = postings.indexOf(post.getQnaId());
+            if (index < 0 || postings.generations[index] != post.getGeneration()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void apply(QnaPostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED:
+            case UPDATED:
+                QnaPost source = event.getPost();
+                data.upsert(source.getQnaId(), source.getUserPid(), source.getCategory(), source.getAnswerStatus(),
+                        source.getIsLocked(), source.getImagePath(), source.getCreatedAt(),
+                        source.getTitle(), source.getContent());
+                break;
+            case DELETED:
+                data.remove(event.getQnaId());
+                break;
+            default:
+                // 답변 이벤트: 답변상태만 갱신
+                IndexedPost post = data.posts.get(event.getQnaId());
+                if (post != null && event.getAnswerStatus() != null) {
+                    data.posts.put(post.getQnaId(), post.withAnswerStatus(event.getAnswerStatus()));
+                }
+        }
+    }
+
+    /**
+     * BM25F 점수: 필드별 길이 정규화 후 제목 가중치를 적용해 합산
+     */
+    private double score(IndexedPost post, List<PostingList.Decoded> postingLists) {
+        int documentCount = data.posts.size();
+        double averageTitleLength = Math.max(1.0, (double) data.titleLengthSum / Math.max(1, documentCount));
+        double averageContentLength = Math.max(1.0, (double) data.contentLengthSum / Math.max(1, documentCount));
+        double titleNorm = 1 - B + B * post.getTitleLength() / averageTitleLength;
+        double contentNorm = 1 - B + B * post.getContentLength() / averageContentLength;
+
+        double score = 0.0;
+        for (PostingList.Decoded postings : postingLists) {
+            int index = postings.indexOf(post.getQnaId());
+            double frequency = titleBoost * postings.titleFrequencies[index] / titleNorm
+                    + postings.contentFrequencies[index] / contentNorm;
+            // 문서 빈도는 아직 정리되지 않은 이전 세대 항목을 포함한 근사값
+            int documentFrequency = postings.ids.length;
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            score += idf * frequency / (K1 + frequency);
+        }
+        return score;
+    }
+
+    /**
+     * 키워드의 모든 bigram 을 포함하는 게시글 ID (짧은 포스팅 리스트부터 교집합)
+     */
+    private static long[] intersect(List<PostingList.Decoded> postingLists) {
+        List<PostingList.Decoded> bySize = new ArrayList<>(postingLists);
+        bySize.sort(Comparator.comparingInt(postings -> postings.ids.length));
+
+        long[] result = bySize.get(0).ids;
+        for (int i = 1; i < bySize.size() && result.length > 0; i++) {
+            result = intersect(result, bySize.get(i).ids);
+        }
+        return result;
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 목록 조회 권한/필터 (QnaPostSpecification.of 와 동일한 조건)
+     */
+    private static boolean isVisible(IndexedPost post, QnaPostDTO.SearchRequest searchRequest,
+                                     Long currentUserId, boolean isAdmin) {
+        if (searchRequest.getCategory() != null && post.getCategory() != searchRequest.getCategory()) {
+            return false;
+        }
+        if (searchRequest.getAnswerStatus() != null && post.getAnswerStatus() != searchRequest.getAnswerStatus()) {
+            return false;
+        }
+        if (searchRequest.getHasImage() != null && post.hasImage() != searchRequest.getHasImage()) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(searchRequest.getMyPostsOnly())) {
+            return currentUserId != null && currentUserId.equals(post.getUserPid());
+        }
+        return isAdmin || !post.isLocked();
+    }
+
+    static Map<Integer, Integer> bigramFrequencies(String text) {
+        Map<Integer, Integer> frequencies = new HashMap<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            frequencies.merge((text.charAt(i) << 16) | text.charAt(i + 1), 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    static Set<Integer> bigrams(String text) {
+        Set<Integer> grams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add((text.charAt(i) << 16) | text.charAt(i + 1));
+        }
+        return grams;
+    }
+
+    /**
+     * 검색 키워드 정규화
+     * SecurityUtil.sanitizeSearchKeyword 의 LIKE 이스케이프(\%, \_ 등)를 되돌리고 소문자로 변환
+     */
+    static String normalizeKeyword(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(keyword.length());
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (c == '\\' && i + 1 < keyword.length()) {
+                c = keyword.charAt(++i);
+            }
+            sb.append(c);
+        }
+        return normalizeText(sb.toString().trim());
+    }
+
+    static String normalizeText(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 색인 데이터 (포스팅 리스트, 색인된 게시글, BM25 용 필드 길이 합계)
+     * 게시글을 다시 색인할 때마다 새 세대를 부여하고, 포스팅 리스트의 이전 세대 항목은 무효로 취급한다.
+     */
+    private static final class IndexData {
+        private final Map<Integer, PostingList> postings = new HashMap<>();
+        private final Map<Long, IndexedPost> posts = new HashMap<>();
+        private final PostingList.LiveFilter liveFilter = this::isLive;
+        private long titleLengthSum;
+        private long contentLengthSum;
+        private int generationSequence;
+        // 현재 세대 항목 수 / 포스팅 리스트에 저장된 전체 항목 수
+        private long liveEntries;
+        private long storedEntries;
+
+        void upsert(Long qnaId, Long userPid, QnaPost.Category category, QnaPost.AnswerStatus answerStatus,
+                    Boolean isLocked, String imagePath, LocalDateTime createdAt, String title, String content) {
+            Map<Integer, int[]> frequencies = termFrequencies(title, content);
+            IndexedPost post = IndexedPost.of(qnaId, userPid, category, answerStatus, isLocked, imagePath, createdAt,
+                    title, content, ++generationSequence, frequencies.size());
+            remove(post.getQnaId());
+            posts.put(post.getQnaId(), post);
+            titleLengthSum += post.getTitleLength();
+            contentLengthSum += post.getContentLength();
+            liveEntries += post.getGramCount();
+            frequencies.forEach((gram, frequency) -> storedEntries += postings
+                    .computeIfAbsent(gram, g -> new PostingList())
+                    .put(post.getQnaId(), post.getGeneration(), frequency[0], frequency[1], liveFilter));
+        }
+
+        /**
+         * 게시글만 제거 (포스팅 리스트 항목은 세대 불일치로 무효화되고 재인코딩/재색인 때 정리)
+         */
+        void remove(Long qnaId) {
+            IndexedPost previous = posts.remove(qnaId);
+            if (previous == null) {
+                return;
+            }
+            titleLengthSum -= previous.getTitleLength();
+            contentLengthSum -= previous.getContentLength();
+            liveEntries -= previous.getGramCount();
+        }
+
+        long staleEntries() {
+            return storedEntries - liveEntries;
+        }
+
+        private boolean isLive(long qnaId, int generation) {
+            IndexedPost post = posts.get(qnaId);
+            return post != null && post.getGeneration() == generation;
+        }
+
+        /**
+         * bigram 별 {제목 출현 횟수, 내용 출현 횟수}
+         */
+        private static Map<Integer, int[]> termFrequencies(String title, String content) {
+            Map<Integer, int[]> frequencies = new HashMap<>();
+            bigramFrequencies(normalizeText(title))
+                    .forEach((gram, count) -> frequencies.computeIfAbsent(gram, g -> new int[2])[0] = count);
+            bigramFrequencies(normalizeText(content))
+                    .forEach((gram, count) -> frequencies.computeIfAbsent(gram, g -> new int[2])[1] = count);
+            return frequencies;
+        }
+    }
+
+    private static final class ScoredPost {
+        private final IndexedPost post;
+        private final double score;
+
+        private ScoredPost(IndexedPost post, double score) {
+            this.post = post;
+            this.score = score;
+        }
+    }
+
+    /**
+     * 검색 결과 (요청한 페이지의 ID 목록과 전체 건수)
+     */
+    public static class SearchHits {
+        private final List<Long> ids;
+        private final long total;
+
+        public SearchHits(List<Long> ids, long total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    /**
+     * 색인된 게시글 (필터용 속성, BM25 용 필드 길이, 색인 세대, 부분 문자열 확인용 정규화 텍스트)
+     * 본문은 UTF-8 을 deflate 로 압축해 보관하고 후보 확인 때만 풀어서 사용
+     */
+    static final class IndexedPost {
+        private final long qnaId;
+        private final Long userPid;
+        private final QnaPost.Category category;
+        private final QnaPost.AnswerStatus answerStatus;
+        private final boolean locked;
+        private final boolean hasImage;
+        private final long createdAt;
+        private final int titleLength;
+        private final int contentLength;
+        private final int generation;
+        private final int gramCount;
+        private final String title;
+        private final byte[] compressedContent;
+
+        private IndexedPost(long qnaId, Long userPid, QnaPost.Category category, QnaPost.AnswerStatus answerStatus,
+                            boolean locked, boolean hasImage, long createdAt,
+                            int titleLength, int contentLength, int generation, int gramCount,
+                            String title, byte[] compressedContent) {
+            this.qnaId = qnaId;
+            this.userPid = userPid;
+            this.category = category;
+            this.answerStatus = answerStatus;
+            this.locked = locked;
+            this.hasImage = hasImage;
+            this.createdAt = createdAt;
+            this.titleLength = titleLength;
+            this.contentLength = contentLength;
+            this.generation = generation;
+            this.gramCount = gramCount;
+            this.title = title;
+            this.compressedContent = compressedContent;
+        }
+
+        static IndexedPost of(Long qnaId, Long userPid, QnaPost.Category category, QnaPost.AnswerStatus answerStatus,
+                              Boolean isLocked, String imagePath, LocalDateTime createdAt, String title, String content,
+                              int generation, int gramCount) {
+            return new IndexedPost(
+                    qnaId,
+                    userPid,
+                    category,
+                    answerStatus,
+                    Boolean.TRUE.equals(isLocked),
+                    imagePath != null && !imagePath.isEmpty(),
+                    createdAt != null ? createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L,
+                    bigramCount(title),
+                    bigramCount(content),
+                    generation,
+                    gramCount,
+                    normalizeText(title),
+                    deflate(normalizeText(content)));
+        }
+
+        IndexedPost withAnswerStatus(QnaPost.AnswerStatus status) {
+            return new IndexedPost(qnaId, userPid, category, status, locked, hasImage, createdAt,
+                    titleLength, contentLength, generation, gramCount, title, compressedContent);
+        }
+
+        /**
+         * 정규화한 제목/본문에 키워드(정규화된 값)가 포함되는지 확인 (제목이 일치하면 본문은 풀지 않음)
+         */
+        boolean contains(String keyword) {
+            return title.contains(keyword)
+                    || (compressedContent.length > 0 && inflate(compressedContent).contains(keyword));
+        }
+
+        private static byte[] deflate(String text) {
+            if (text.isEmpty()) {
+                return new byte[0];
+            }
+            byte[] input = text.getBytes(StandardCharsets.UTF_8);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(input);
+                deflater.finish();
+                ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+                byte[] buffer = new byte[1024];
+                while (!deflater.finished()) {
+                    out.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        private static String inflate(byte[] compressed) {
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(compressed);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+                byte[] buffer = new byte[1024];
+                while (!inflater.finished()) {
+                    int length = inflater.inflate(buffer);
+                    if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalStateException("검색 색인 본문 압축 데이터가 손상되었습니다.");
+                    }
+                    out.write(buffer, 0, length);
+                }
+                return new String(out.toByteArray(), StandardCharsets.UTF_8);
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("검색 색인 본문 압축 데이터가 손상되었습니다.", e);
+            } finally {
+                inflater.end();
+            }
+        }
+
+        private static int bigramCount(String text) {
+            return text == null ? 0 : Math.max(0, text.length() - 1);
+        }
+
+        int getTitleLength() {
+            return titleLength;
+        }
+
+        int getContentLength() {
+            return contentLength;
+        }
+
+        int getGeneration() {
+            return generation;
+        }
+
+        int getGramCount() {
+            return gramCount;
+        }
+
+        long getQnaId() {
+            return qnaId;
+        }
+
+        Long getUserPid() {
+            return userPid;
+        }
+
+        QnaPost.Category getCategory() {
+            return category;
+        }
+
+        QnaPost.AnswerStatus getAnswerStatus() {
+            return answerStatus;
+        }
+
+        boolean isLocked() {
+            return locked;
+        }
+
+        boolean hasImage() {
+            return hasImage;
+        }
+
+        long getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.act2gether.cache;
+
+import com.act2gether.entity.QnaPost;
+import com.act2gether.entity.QnaReply;
+import com.act2gether.event.QnaPostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * QnaPost/QnaReply 2차 캐시 무효화
+ * - replies 컬렉션: 답변은 QnaReply.qnaId 로 직접 저장되어 Hibernate 가 컬렉션 변경을 알 수 없으므로,
+ *   QnaReplyService 쓰기가 커밋된 뒤 해당 게시글의 컬렉션 캐시를 제거한다.
+ * - 게시글/답변 항목: 엔티티를 거치지 않는 단일 행 UPDATE 후 해당 ID 만 제거 (evictPost, evictReply)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QnaSecondLevelCacheEvictor {
+
+    private static final String REPLIES_ROLE = QnaPost.class.getName() + ".replies";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaPostChanged(QnaPostChangedEvent event) {
+        if (!event.isReplyEvent()) {
+            return;
+        }
+        entityManagerFactory.getCache()
+                .unwrap(Cache.class)
+                .evictCollectionData(REPLIES_ROLE, event.getQnaId());
+        log.debug("답변 컬렉션 캐시 제거 - QnA ID: {}", event.getQnaId());
+    }
+
+    /**
+     * 직접 UPDATE 한 게시글 한 건을 2차 캐시에서 제거
+     * 커밋 전에 다른 트랜잭션이 이전 값을 다시 캐시할 수 있으므로 트랜잭션 완료 후 한 번 더 제거한다.
+     */
+    public void evictPost(Long qnaId) {
+        evictEntity(QnaPost.class, qnaId);
+    }
+
+    /**
+     * 직접 UPDATE 한 답변 한 건을 2차 캐시에서 제거 (evictPost 와 같이 트랜잭션 완료 후 한 번 더 제거)
+     */
+    public void evictReply(Long replyId) {
+        evictEntity(QnaReply.class, replyId);
+    }
+
+    // Private helper methods
+
+    private void evictEntity(Class<?> entityClass, Long id) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(entityClass, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evictEntityData(entityClass, id);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,552 @@
+package com.act2gether.search;
+
+import com.act2gether.dto.QnaPostDTO;
+import com.act2gether.entity.QnaPost;
+import com.act2gether.event.QnaPostChangedEvent;
+import com.act2gether.repository.QnaPostRepository;
+import com.act2gether.repository.QnaPostTitleView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 자동완성용 제목 radix trie
+ * - 제목의 각 단어 시작 위치부터의 문자열을 키로 저장 (단어 중간부터 입력해도 매칭)
+ * - 갈라지지 않는 구간은 간선 하나로 압축하고, 간선 문자열은 정규화한 제목 문자 배열의 구간으로 참조
+ * - 노드의 자식은 정렬된 char/Node 배열로 보관해 메모리를 줄임
+ * - 노드마다 하위 전체에서 최신 글 ID 를 최대 TOP_IDS_PER_NODE 개 유지 (조회 시 하위 노드를 훑지 않음)
+ * - 삭제로 ID 와 자식이 모두 없어진 노드는 제거
+ * - 애플리케이션 시작 시 생성, 이후 게시글 변경 이벤트로 증분 갱신 (조회 시 DB 접근 없음)
+ * 잠긴 게시글은 작성자와 관리자에게만 제안한다.
+ * 측정값 (JDK 17, 제목 3~7 단어의 합성 데이터, 게시글 1만 건): 힙 약 8MB / 노드 약 5.3만 개
+ * (글자 단위 trie 는 약 39MB / 노드 약 38만 개)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QnaTitleSuggester {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+    private static final int MAX_KEY_LENGTH = 32;
+    // 노드별로 유지하는 최신 글 수 (제안 최대 10건 + 잠긴 글 여유분)
+    private static final int TOP_IDS_PER_NODE = 32;
+    // 최신 글 목록이 잠긴 글로 채워져 하위를 직접 훑을 때 확인하는 ID 수 상한
+    private static final int MAX_VISITED_IDS = 4096;
+
+    private static final char[] EMPTY_KEYS = new char[0];
+    private static final Node[] EMPTY_CHILDREN = new Node[0];
+    private static final long[] EMPTY_IDS = new long[0];
+
+    private final QnaPostRepository qnaPostRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root = new Node();
+    private Map<Long, TitleEntry> entries = new HashMap<>();
+
+    private final List<QnaPostChangedEvent> pendingEvents = new ArrayList<>();
+    private volatile boolean ready;
+
+    /**
+     * 전체 제목 trie 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        Node newRoot = new Node();
+        Map<Long, TitleEntry> newEntries = new HashMap<>();
+
+        // qnaId 커서로 다음 묶음 조회 (생성 중 삭제가 있어도 다른 게시글을 건너뛰지 않음)
+        long lastId = 0L;
+        List<QnaPostTitleView> batch;
+        do {
+            batch = qnaPostRepository.findTitleViewsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (QnaPostTitleView view : batch) {
+                insert(newRoot, newEntries, new TitleEntry(view.getQnaId(), view.getUserPid(), view.getTitle(),
+                        Boolean.TRUE.equals(view.getIsLocked()), view.getCreatedAt()));
+                lastId = view.getQnaId();
+            }
+        } while (batch.size() == BUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            root = newRoot;
+            entries = newEntries;
+            pendingEvents.forEach(this::apply);
+            pendingEvents.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("QnA 제목 자동완성 색인 생성 완료 - 게시글: {}, 소요: {}ms",
+                newEntries.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 게시글 변경 커밋 후 증분 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaPostChanged(QnaPostChangedEvent event) {
+        if (event.isReplyEvent()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                pendingEvents.add(event);
+                return;
+            }
+            apply(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목 제안 (최신 글 우선)
+     */
+    public List<QnaPostDTO.Suggestion> suggest(String prefix, int limit, Long currentUserId, boolean isAdmin) {
+        String key = QnaSearchIndex.normalizeKeyword(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            key = key.substring(0, MAX_KEY_LENGTH);
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = find(root, key.toCharArray());
+            if (node == null) {
+                return List.of();
+            }
+
+            List<TitleEntry> suggestions = new ArrayList<>(limit);
+            for (long qnaId : node.top) {
+                TitleEntry entry = entries.get(qnaId);
+                if (entry != null && entry.isVisibleTo(currentUserId, isAdmin)) {
+                    suggestions.add(entry);
+                    if (suggestions.size() == limit) {
+                        break;
+                    }
+                }
+            }
+            if (suggestions.size() < limit && node.top.length == TOP_IDS_PER_NODE) {
+                // 최신 글 목록 대부분이 볼 수 없는 잠긴 글인 경우 하위를 훑어 보충
+                suggestions = scanNewest(node, limit, currentUserId, isAdmin);
+            }
+            return suggestions.stream()
+                    .map(entry -> new QnaPostDTO.Suggestion(entry.getQnaId(), entry.getTitle()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Private helper methods
+
+    /**
+     * 하위 노드의 ID 를 훑어 볼 수 있는 최신 글 limit 건 선택 (크기 limit 의 최소 힙, 확인하는 ID 수 제한)
+     */
+    private List<TitleEntry> scanNewest(Node node, int limit, Long currentUserId, boolean isAdmin) {
+        Comparator<TitleEntry> newest = Comparator.comparingLong(TitleEntry::getCreatedAt)
+                .thenComparingLong(TitleEntry::getQnaId)
+                .reversed();
+        PriorityQueue<TitleEntry> topK = new PriorityQueue<>(limit + 1, newest.reversed());
+        Set<Long> seen = new HashSet<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        int visited = 0;
+        while (!stack.isEmpty() && visited < MAX_VISITED_IDS) {
+            Node current = stack.pop();
+            for (long qnaId : current.ids) {
+                visited++;
+                TitleEntry entry = entries.get(qnaId);
+                if (entry != null && seen.add(qnaId) && entry.isVisibleTo(currentUserId, isAdmin)) {
+                    topK.offer(entry);
+                    if (topK.size() > limit) {
+                        topK.poll();
+                    }
+                }
+            }
+            for (Node child : current.children) {
+                stack.push(child);
+            }
+        }
+        List<TitleEntry> result = new ArrayList<>(topK);
+        result.sort(newest);
+        return result;
+    }
+
+    private void apply(QnaPostChangedEvent event) {
+        if (event.getType() == QnaPostChangedEvent.Type.DELETED) {
+            remove(root, entries, event.getQnaId());
+            return;
+        }
+        QnaPost post = event.getPost();
+        insert(root, entries, new TitleEntry(post.getQnaId(), post.getUserPid(), post.getTitle(),
+                Boolean.TRUE.equals(post.getIsLocked()), post.getCreatedAt()));
+    }
+
+    private static void insert(Node root, Map<Long, TitleEntry> entries, TitleEntry entry) {
+        remove(root, entries, entry.getQnaId());
+        entries.put(entry.getQnaId(), entry);
+        char[] text = normalizedTitle(entry.getTitle());
+        for (int start : keyStarts(text)) {
+            int end = Math.min(text.length, start + MAX_KEY_LENGTH);
+            Node node = root;
+            int i = start;
+            while (i < end) {
+                Node child = node.child(text[i]);
+                if (child == null) {
+                    // 남은 키 전체를 간선 하나로 추가 (제목 문자 배열을 그대로 참조)
+                    child = new Node(text, i, end - i);
+                    node.addChild(child);
+                    child.offerTop(entry.getQnaId(), entries);
+                    node = child;
+                    break;
+                }
+                int matched = child.matchLabel(text, i, end);
+                if (matched < child.labelLength) {
+                    child = node.split(child, matched);
+                }
+                child.offerTop(entry.getQnaId(), entries);
+                node = child;
+                i += matched;
+            }
+            node.addId(entry.getQnaId());
+        }
+    }
+
+    private static void remove(Node root, Map<Long, TitleEntry> entries, Long qnaId) {
+        TitleEntry previous = entries.remove(qnaId);
+        if (previous == null) {
+            return;
+        }
+        char[] text = normalizedTitle(previous.getTitle());
+        for (int start : keyStarts(text)) {
+            int end = Math.min(text.length, start + MAX_KEY_LENGTH);
+            List<Node> path = new ArrayList<>();
+            path.add(root);
+            Node node = root;
+            int i = start;
+            while (node != null && i < end) {
+                Node child = node.child(text[i]);
+                node = child != null && child.matchLabel(text, i, end) == child.labelLength ? child : null;
+                if (node != null) {
+                    path.add(node);
+                    i += node.labelLength;
+                }
+            }
+            if (node == null) {
+                continue;
+            }
+            node.removeId(qnaId);
+            // 아래에서부터 빈 노드 제거, 자식 하나뿐인 중간 노드는 자식과 합치고, 나머지는 최신 글 목록 재계산
+            for (int d = path.size() - 1; d >= 1; d--) {
+                Node current = path.get(d);
+                Node parent = path.get(d - 1);
+                if (current.isEmpty()) {
+                    parent.removeChild(current.labelAt(0));
+                } else if (current.ids.length == 0 && current.children.length == 1) {
+                    parent.replaceChild(current.mergeWithChild());
+                } else {
+                    current.recomputeTop(entries);
+                }
+            }
+        }
+    }
+
+    /**
+     * 접두어 위치의 노드 (접두어가 간선 중간에서 끝나면 그 간선의 아래 노드, 없으면 null)
+     */
+    private static Node find(Node root, char[] key) {
+        Node node = root;
+        int i = 0;
+        while (i < key.length) {
+            Node child = node.child(key[i]);
+            if (child == null) {
+                return null;
+            }
+            int matched = child.matchLabel(key, i, key.length);
+            if (matched < Math.min(child.labelLength, key.length - i)) {
+                return null;
+            }
+            node = child;
+            i += matched;
+        }
+        return node;
+    }
+
+    /**
+     * 최신 글 우선 비교 (생성 시각 내림차순, 같으면 ID 내림차순)
+     */
+    private static int compareNewest(Map<Long, TitleEntry> entries, long a, long b) {
+        int byCreatedAt = Long.compare(entries.get(b).getCreatedAt(), entries.get(a).getCreatedAt());
+        return byCreatedAt != 0 ? byCreatedAt : Long.compare(b, a);
+    }
+
+    private static char[] normalizedTitle(String title) {
+        return QnaSearchIndex.normalizeText(title).trim().toCharArray();
+    }
+
+    /**
+     * 제목의 각 단어 시작 위치 (키는 시작 위치부터 최대 MAX_KEY_LENGTH 글자)
+     */
+    private static int[] keyStarts(char[] text) {
+        int[] starts = new int[text.length];
+        int count = 0;
+        for (int i = 0; i < text.length; i++) {
+            boolean wordStart = i == 0 || Character.isWhitespace(text[i - 1]);
+            if (wordStart && !Character.isWhitespace(text[i])) {
+                starts[count++] = i;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    /**
+     * radix trie 노드 (부모에서 오는 간선은 제목 문자 배열의 구간, 자식은 간선 첫 글자 오름차순 배열)
+     * ids 는 이 노드에서 끝나는 키의 게시글, top 은 하위 전체의 최신 글 (최신순, 최대 TOP_IDS_PER_NODE 개)
+     */
+    private static final class Node {
+        private char[] labelSource = EMPTY_KEYS;
+        private int labelOffset;
+        private int labelLength;
+        private char[] keys = EMPTY_KEYS;
+        private Node[] children = EMPTY_CHILDREN;
+        private long[] ids = EMPTY_IDS;
+        private long[] top = EMPTY_IDS;
+
+        Node() {
+        }
+
+        Node(char[] labelSource, int labelOffset, int labelLength) {
+            this.labelSource = labelSource;
+            this.labelOffset = labelOffset;
+            this.labelLength = labelLength;
+        }
+
+        char labelAt(int index) {
+            return labelSource[labelOffset + index];
+        }
+
+        /**
+         * key[from, end) 와 간선 문자열의 공통 접두어 길이
+         */
+        int matchLabel(char[] key, int from, int end) {
+            int max = Math.min(labelLength, end - from);
+            int matched = 0;
+            while (matched < max && labelAt(matched) == key[from + matched]) {
+                matched++;
+            }
+            return matched;
+        }
+
+        boolean isEmpty() {
+            return ids.length == 0 && children.length == 0;
+        }
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void addChild(Node child) {
+            int insertAt = -Arrays.binarySearch(keys, child.labelAt(0)) - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newKeys[insertAt] = child.labelAt(0);
+            newChildren[insertAt] = child;
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        /**
+         * 첫 글자가 같은 자식을 교체 (병합 후)
+         */
+        void replaceChild(Node child) {
+            children[Arrays.binarySearch(keys, child.labelAt(0))] = child;
+        }
+
+        /**
+         * 자식 간선을 length 위치에서 나눠 중간 노드를 만들고 반환
+         * (중간 노드의 하위는 기존 자식과 같으므로 최신 글 목록을 그대로 공유, 목록은 변경 시 새 배열로 교체됨)
+         */
+        Node split(Node child, int length) {
+            Node middle = new Node(child.labelSource, child.labelOffset, length);
+            child.labelOffset += length;
+            child.labelLength -= length;
+            middle.keys = new char[]{child.labelAt(0)};
+            middle.children = new Node[]{child};
+            middle.top = child.top;
+            replaceChild(middle);
+            return middle;
+        }
+
+        /**
+         * ID 가 없고 자식이 하나뿐인 노드를 자식에 합쳐 자식을 반환 (간선 문자열을 이어 붙임)
+         */
+        Node mergeWithChild() {
+            Node child = children[0];
+            if (child.labelSource == labelSource && child.labelOffset == labelOffset + labelLength) {
+                child.labelOffset = labelOffset;
+            } else {
+                char[] label = new char[labelLength + child.labelLength];
+                System.arraycopy(labelSource, labelOffset, label, 0, labelLength);
+                System.arraycopy(child.labelSource, child.labelOffset, label, labelLength, child.labelLength);
+                child.labelSource = label;
+                child.labelOffset = 0;
+            }
+            child.labelLength += labelLength;
+            return child;
+        }
+
+        void removeChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index < 0) {
+                return;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys.length == 0 ? EMPTY_KEYS : newKeys;
+            children = newChildren.length == 0 ? EMPTY_CHILDREN : newChildren;
+        }
+
+        /**
+         * 새 게시글을 최신 글 목록에 반영 (목록이 가득 찼고 가장 오래된 글보다 오래되면 무시)
+         */
+        void offerTop(long qnaId, Map<Long, TitleEntry> entries) {
+            int insertAt = top.length;
+            for (int i = 0; i < top.length; i++) {
+                if (top[i] == qnaId) {
+                    return;
+                }
+                if (insertAt == top.length && compareNewest(entries, qnaId, top[i]) < 0) {
+                    insertAt = i;
+                }
+            }
+            if (insertAt >= TOP_IDS_PER_NODE) {
+                return;
+            }
+            long[] newTop = new long[Math.min(TOP_IDS_PER_NODE, top.length + 1)];
+            System.arraycopy(top, 0, newTop, 0, insertAt);
+            newTop[insertAt] = qnaId;
+            System.arraycopy(top, insertAt, newTop, insertAt + 1, newTop.length - insertAt - 1);
+            top = newTop;
+        }
+
+        /**
+         * 이 노드의 ID 와 자식의 최신 글 목록으로 최신 글 목록 재계산 (삭제 후)
+         */
+        void recomputeTop(Map<Long, TitleEntry> entries) {
+            // 같은 제목의 다른 키(이 노드에서 끝나는 키 포함)는 아직 갱신 전일 수 있으므로 제거된 게시글 제외
+            Set<Long> candidates = new HashSet<>();
+            for (long id : ids) {
+                if (entries.containsKey(id)) {
+                    candidates.add(id);
+                }
+            }
+            for (Node child : children) {
+                for (long id : child.top) {
+                    if (entries.containsKey(id)) {
+                        candidates.add(id);
+                    }
+                }
+            }
+            List<Long> sorted = new ArrayList<>(candidates);
+            sorted.sort((a, b) -> compareNewest(entries, a, b));
+            int size = Math.min(TOP_IDS_PER_NODE, sorted.size());
+            long[] newTop = size == 0 ? EMPTY_IDS : new long[size];
+            for (int i = 0; i < size; i++) {
+                newTop[i] = sorted.get(i);
+            }
+            top = newTop;
+        }
+
+        void addId(long qnaId) {
+            for (long id : ids) {
+                if (id == qnaId) {
+                    return;
+                }
+            }
+            ids = Arrays.copyOf(ids, ids.length + 1);
+            ids[ids.length - 1] = qnaId;
+        }
+
+        void removeId(long qnaId) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == qnaId) {
+                    long[] remaining = new long[ids.length - 1];
+                    System.arraycopy(ids, 0, remaining, 0, i);
+                    System.arraycopy(ids, i + 1, remaining, i, ids.length - i - 1);
+                    ids = remaining.length == 0 ? EMPTY_IDS : remaining;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 제안 대상 게시글 (제목과 공개 범위)
+     */
+    private static final class TitleEntry {
+        private final long qnaId;
+        private final Long userPid;
+        private final String title;
+        private final boolean locked;
+        private final long createdAt;
+
+        private TitleEntry(long qnaId, Long userPid, String title, boolean locked, LocalDateTime createdAt) {
+            this.qnaId = qnaId;
+            this.userPid = userPid;
+            this.title = title != null ? title : "";
+            this.locked = locked;
+            this.createdAt = createdAt != null ? createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+        }
+
+        // QnaPost.canView 와 동일한 규칙
+        boolean isVisibleTo(Long currentUserId, boolean isAdmin) {
+            return isAdmin || !locked || (userPid != null && userPid.equals(currentUserId));
+        }
+
+        long getQnaId() {
+            return qnaId;
+        }
+
+        String getTitle() {
+            return title;
+        }
+
+        long getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
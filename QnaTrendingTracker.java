@@ -0,0 +1,310 @@
+package com.act2gether.search;
+
+import com.act2gether.event.QnaPostChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기 게시글(sort=trending) 점수 추적기
+ * - 조회(중복 제외)와 답변 등록을 시간 감쇠 점수로 누적 (반감기 half-life-minutes)
+ * - forward decay: 기준 시각(landmark) 대비 exp(λ·(t - landmark)) 가중치를 더하므로
+ *   기록 시 기존 점수를 다시 계산할 필요가 없고, 순위 비교도 그대로 가능
+ * - 추적 게시글 수는 max-tracked 로 제한하고, 상위 top-k ID 목록은 주기적으로 다시 계산
+ *   (기록과 동시에 진행하는 읽기 락 안에서 크기 top-k 최소 힙으로 선택한 뒤 volatile 교체, 쓰기 락은 재조정/정리에만 사용)
+ * - 점수는 주기적으로 로컬 파일에 저장하고 시작 시 복원
+ */
+@Component
+@Slf4j
+public class QnaTrendingTracker {
+    
+    // 기준 시각 이후 지수가 이 값을 넘으면 점수를 재조정 (double 오버플로 방지)
+    private static final double MAX_EXPONENT = 30.0;
+    // 감쇠 후 이 값보다 작은 점수는 정리
+    private static final double MIN_SCORE = 0.01;
+    // 점수 오름차순 (최소 힙 순서)
+    private static final Comparator<Map.Entry<Long, Double>> BY_SCORE = Map.Entry.comparingByValue();
+    
+    private final double lambda;
+    private final double viewWeight;
+    private final double replyWeight;
+    private final int maxTracked;
+    private final int topK;
+    private final Path snapshotPath;
+    
+    private final ConcurrentHashMap<Long, DoubleAdder> scores = new ConcurrentHashMap<>();
+    // 기록은 읽기 락(동시 진행), 재조정/정리는 쓰기 락
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long landmark = System.currentTimeMillis();
+    private volatile List<Long> ranked = Collections.emptyList();
+    
+    public QnaTrendingTracker(
+            @Value("${app.qna.trending.half-life-minutes:360}") long halfLifeMinutes,
+            @Value("${app.qna.trending.view-weight:1.0}") double viewWeight,
+            @Value("${app.qna.trending.reply-weight:5.0}") double replyWeight,
+            @Value("${app.qna.trending.max-tracked:20000}") int maxTracked,
+            @Value("${app.qna.trending.top-k:1000}") int topK,
+            @Value("${app.qna.trending.snapshot-path:./data/qna-trending.snapshot}") String snapshotPath) {
+        if (halfLifeMinutes <= 0 || maxTracked <= 0 || topK <= 0) {
+            throw new IllegalArgumentException("인기 게시글 설정이 올바르지 않습니다.");
+        }
+        this.lambda = Math.log(2) / (halfLifeMinutes * 60_000.0);
+        this.viewWeight = viewWeight;
+        this.replyWeight = replyWeight;
+        this.maxTracked = maxTracked;
+        this.topK = Math.min(topK, maxTracked);
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+    
+    /**
+     * 집계된 조회 1건 반영
+     */
+    public void recordView(Long qnaId) {
+        record(qnaId, viewWeight);
+    }
+    
+    /**
+     * 답변 등록 / 게시글 삭제 반영 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaPostChanged(QnaPostChangedEvent event) {
+        if (event.getType() == QnaPostChangedEvent.Type.REPLY_CREATED) {
+            record(event.getQnaId(), replyWeight);
+        } else if (event.getType() == QnaPostChangedEvent.Type.DELETED) {
+            scores.remove(event.getQnaId());
+        }
+    }
+    
+    /**
+     * 인기순 게시글 ID (점수 내림차순, 최대 top-k 건, 마지막 refresh 시점 기준)
+     */
+    public List<Long> getRankedIds() {
+        return ranked;
+    }
+    
+    /**
+     * 상위 top-k 재계산, 오래된 점수 정리, 필요 시 기준 시각 재조정
+     */
+    @Scheduled(fixedDelayString = "${app.qna.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        if (lambda * (now - landmark) > MAX_EXPONENT) {
+            lock.writeLock().lock();
+            try {
+                if (lambda * (now - landmark) > MAX_EXPONENT) {
+                    rescale(now);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        
+        // 상위 top-k 와 (추적 상한 초과 시) 상위 max-tracked 를 최소 힙으로 선택, 정렬은 힙 크기만큼만
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(topK + 1, BY_SCORE);
+        PriorityQueue<Map.Entry<Long, Double>> tracked = null;
+        List<Long> expired = new ArrayList<>();
+        List<Long> overflow = new ArrayList<>();
+        double threshold;
+        lock.readLock().lock();
+        try {
+            threshold = MIN_SCORE * Math.exp(lambda * (now - landmark));
+            if (scores.size() > maxTracked) {
+                tracked = new PriorityQueue<>(maxTracked + 1, BY_SCORE);
+            }
+            for (Map.Entry<Long, DoubleAdder> entry : scores.entrySet()) {
+                double score = entry.getValue().sum();
+                if (score < threshold) {
+                    expired.add(entry.getKey());
+                    continue;
+                }
+                Map.Entry<Long, Double> scored = Map.entry(entry.getKey(), score);
+                offer(top, scored, topK);
+                if (tracked != null) {
+                    Map.Entry<Long, Double> dropped = offer(tracked, scored, maxTracked);
+                    if (dropped != null) {
+                        overflow.add(dropped.getKey());
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        List<Long> ids = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ids.add(top.poll().getKey());
+        }
+        Collections.reverse(ids);
+        ranked = Collections.unmodifiableList(ids);
+        
+        if (!expired.isEmpty() || !overflow.isEmpty()) {
+            // 정리 대상만 쓰기 락 안에서 제거 (그 사이 기록이 들어온 감쇠 대상은 다시 확인)
+            lock.writeLock().lock();
+            try {
+                double current = MIN_SCORE * Math.exp(lambda * (now - landmark));
+                for (Long qnaId : expired) {
+                    DoubleAdder adder = scores.get(qnaId);
+                    if (adder != null && adder.sum() < current) {
+                        scores.remove(qnaId);
+                    }
+                }
+                overflow.forEach(scores::remove);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+    
+    /**
+     * 점수 파일 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    @Scheduled(fixedDelayString = "${app.qna.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${app.qna.trending.snapshot-interval-ms:300000}")
+    public void saveSnapshot() {
+        List<Map.Entry<Long, Double>> ordered;
+        long snapshotLandmark;
+        lock.readLock().lock();
+        try {
+            ordered = snapshotScores();
+            snapshotLandmark = landmark;
+        } finally {
+            lock.readLock().unlock();
+        }
+        ordered.sort(BY_SCORE.reversed());
+        
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(Long.toString(snapshotLandmark));
+                writer.newLine();
+                for (Map.Entry<Long, Double> entry : ordered) {
+                    writer.write(entry.getKey() + " " + entry.getValue());
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("인기 게시글 점수 저장 완료 - {}건", ordered.size());
+        } catch (IOException e) {
+            log.warn("인기 게시글 점수 저장 실패: {}", snapshotPath, e);
+        }
+    }
+    
+    /**
+     * 저장된 점수 복원 (파일이 없거나 손상된 경우 빈 상태로 시작)
+     */
+    @PostConstruct
+    public void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return;
+            }
+            landmark = Long.parseLong(header.trim());
+            String line;
+            while ((line = reader.readLine()) != null && scores.size() < maxTracked) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length != 2) {
+                    continue;
+                }
+                DoubleAdder adder = new DoubleAdder();
+                adder.add(Double.parseDouble(parts[1]));
+                scores.put(Long.parseLong(parts[0]), adder);
+            }
+            refresh();
+            log.info("인기 게시글 점수 복원 완료 - {}건", scores.size());
+        } catch (IOException | NumberFormatException e) {
+            log.warn("인기 게시글 점수 복원 실패, 빈 상태로 시작: {}", snapshotPath, e);
+            scores.clear();
+            landmark = System.currentTimeMillis();
+        }
+    }
+    
+    @PreDestroy
+    public void saveOnShutdown() {
+        saveSnapshot();
+    }
+    
+    // Private helper methods
+    
+    private void record(Long qnaId, double weight) {
+        if (qnaId == null || weight <= 0) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            double value = weight * Math.exp(lambda * (System.currentTimeMillis() - landmark));
+            DoubleAdder adder = scores.get(qnaId);
+            if (adder == null) {
+                if (scores.size() >= maxTracked * 2) {
+                    // 다음 refresh 에서 정리될 때까지 새 게시글은 추적하지 않음 (메모리 상한)
+                    return;
+                }
+                adder = scores.computeIfAbsent(qnaId, id -> new DoubleAdder());
+            }
+            adder.add(value);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 기준 시각을 now 로 옮기고 모든 점수를 같은 비율로 축소 (쓰기 락 안에서 호출)
+     */
+    private void rescale(long now) {
+        double factor = Math.exp(-lambda * (now - landmark));
+        for (DoubleAdder adder : scores.values()) {
+            double value = adder.sumThenReset();
+            adder.add(value * factor);
+        }
+        landmark = now;
+    }
+    
+    /**
+     * 전체 점수 복사 (읽기 락 안에서 호출, 같은 landmark 기준 값)
+     */
+    private List<Map.Entry<Long, Double>> snapshotScores() {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(scores.size());
+        for (Map.Entry<Long, DoubleAdder> entry : scores.entrySet()) {
+            entries.add(Map.entry(entry.getKey(), entry.getValue().sum()));
+        }
+        return entries;
+    }
+    
+    /**
+     * 크기 limit 의 최소 힙에 추가, 밀려난 항목 반환
+     */
+    private static Map.Entry<Long, Double> offer(PriorityQueue<Map.Entry<Long, Double>> heap,
+                                                 Map.Entry<Long, Double> entry, int limit) {
+        heap.offer(entry);
+        return heap.size() > limit ? heap.poll() : null;
+    }
+}
@@ -0,0 +1,90 @@
+package com.act2gether.service;
+
+import com.act2gether.entity.QnaPost;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 쓰기 지연 버퍼
+ * 상세 조회 시에는 메모리 카운터만 증가시키고,
+ * 주기적으로 모아서 한 번의 배치 UPDATE (조회수 = 조회수 + ?) 로 반영한다.
+ * 증가(merge)와 수거(remove)는 모두 ConcurrentHashMap 의 키 단위 원자 연산이므로,
+ * 수거 직후의 증가분은 새 항목으로 쌓여 다음 주기에 반영된다.
+ * 종료 시에도 남은 증가분을 반영하므로 정상 종료에서는 유실되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QnaViewCountBuffer {
+    
+    private static final String FLUSH_SQL = "UPDATE qna_posts SET 조회수 = 조회수 + ? WHERE qna_id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    
+    /**
+     * 조회수 1 증가 (DB 반영은 다음 flush 시점)
+     */
+    public void increment(Long qnaId) {
+        pending.merge(qnaId, 1L, Long::sum);
+    }
+    
+    /**
+     * 아직 DB 에 반영되지 않은 조회수
+     */
+    public long pendingCount(Long qnaId) {
+        return pending.getOrDefault(qnaId, 0L);
+    }
+    
+    /**
+     * 누적된 조회수를 배치 UPDATE 로 반영
+     */
+    @Scheduled(fixedDelayString = "${app.qna.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long qnaId : pending.keySet()) {
+            // 항목을 통째로 꺼내므로 이후 증가분은 다음 주기의 새 항목이 됨
+            Long delta = pending.remove(qnaId);
+            if (delta != null && delta > 0) {
+                batch.add(new Object[]{delta, qnaId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (Exception e) {
+            // 실패한 증가분은 다음 주기에 다시 시도
+            log.error("조회수 반영 실패 - 게시글 {}건, 다음 주기에 재시도", batch.size(), e);
+            for (Object[] row : batch) {
+                pending.merge((Long) row[1], (Long) row[0], Long::sum);
+            }
+            return;
+        }
+        
+        // JDBC 로 직접 갱신했으므로 2차 캐시의 게시글 항목 제거
+        javax.persistence.Cache cache = entityManagerFactory.getCache();
+        for (Object[] row : batch) {
+            cache.evict(QnaPost.class, row[1]);
+        }
+        log.debug("조회수 반영 완료 - 게시글 {}건", batch.size());
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
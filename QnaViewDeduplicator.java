@@ -0,0 +1,153 @@
+package com.act2gether.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * (조회자, 게시글) 쌍의 중복 조회 판별기
+ * - 회전하는 Bloom filter 2세대(현재/이전)로 최근 조회 쌍을 기록
+ * - 트래픽과 무관하게 메모리는 고정 (세대당 bits-per-generation 비트)
+ * - 한 쌍은 최소 window 동안 한 번만 집계 (회전 직전 기록은 최대 2 window 까지 유지)
+ * Bloom filter 특성상 드물게 첫 조회를 중복으로 판단할 수 있다 (조회수 과소 집계 방향).
+ */
+@Component
+@Slf4j
+public class QnaViewDeduplicator {
+    
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private final int bitCount;
+    private final int hashCount;
+    
+    // 회전 시 참조만 교체 (조회 경로에서는 락 없음)
+    private volatile Generations generations;
+    
+    public QnaViewDeduplicator(
+            @Value("${app.qna.view-dedup.bits-per-generation:8388608}") int bitsPerGeneration,
+            @Value("${app.qna.view-dedup.hash-count:5}") int hashCount) {
+        if (bitsPerGeneration < 64 || hashCount < 1) {
+            throw new IllegalArgumentException("조회 중복 필터 설정이 올바르지 않습니다.");
+        }
+        this.bitCount = bitsPerGeneration & ~63;
+        this.hashCount = hashCount;
+        this.generations = new Generations(new BloomFilter(bitCount), new BloomFilter(bitCount));
+    }
+    
+    /**
+     * 이번 window 에서 처음 보는 조회이면 기록 후 true
+     */
+    public boolean markIfFirstView(String viewerKey, Long qnaId) {
+        if (viewerKey == null || qnaId == null) {
+            return true;
+        }
+        long h1 = hash(viewerKey, qnaId);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1L;
+        
+        Generations current = generations;
+        if (current.previous.mightContain(h1, h2)) {
+            // 이전 세대에서 본 쌍은 현재 세대로 옮기지 않음 (억제는 최대 2 window, 이후 다시 집계)
+            return false;
+        }
+        return current.active.put(h1, h2);
+    }
+    
+    /**
+     * 세대 회전 (이전 세대 폐기, 현재 세대를 이전으로)
+     */
+    @Scheduled(fixedRateString = "${app.qna.view-dedup.window-ms:1800000}",
+            initialDelayString = "${app.qna.view-dedup.window-ms:1800000}")
+    public void rotate() {
+        Generations current = generations;
+        generations = new Generations(new BloomFilter(bitCount), current.active);
+        log.debug("조회 중복 필터 세대 회전 - 직전 세대 채움 비율: {}", current.active.fillRatio());
+    }
+    
+    // Private helper methods
+    
+    private long hash(String viewerKey, long qnaId) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < viewerKey.length(); i++) {
+            h ^= viewerKey.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return mix(h ^ mix(qnaId));
+    }
+    
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+    
+    private static final class Generations {
+        private final BloomFilter active;
+        private final BloomFilter previous;
+        
+        private Generations(BloomFilter active, BloomFilter previous) {
+            this.active = active;
+            this.previous = previous;
+        }
+    }
+    
+    /**
+     * 고정 크기 Bloom filter (double hashing, CAS 로 비트 설정)
+     */
+    private final class BloomFilter {
+        private final AtomicLongArray words;
+        
+        private BloomFilter(int bits) {
+            this.words = new AtomicLongArray(bits >>> 6);
+        }
+        
+        boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(h1 + i * h2);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        /**
+         * 비트 설정, 새로 설정된 비트가 하나라도 있으면 true (처음 보는 항목)
+         */
+        boolean put(long h1, long h2) {
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(h1 + i * h2);
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+                long value;
+                while (((value = words.get(word)) & mask) == 0) {
+                    if (words.compareAndSet(word, value, value | mask)) {
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+            return changed;
+        }
+        
+        double fillRatio() {
+            long set = 0;
+            for (int i = 0; i < words.length(); i++) {
+                set += Long.bitCount(words.get(i));
+            }
+            return (double) set / bitCount;
+        }
+        
+        private int index(long hash) {
+            return (int) Long.remainderUnsigned(hash, bitCount);
+        }
+    }
+}
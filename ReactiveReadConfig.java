@@ -0,0 +1,57 @@
+package com.act2gether.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * 리액티브 읽기 API 용 R2DBC 연결 (app.qna.reactive-read.enabled=true 일 때만 생성)
+ * - R2DBC 자동 설정은 application.yml 에서 제외하므로 기본 설정에서는 R2DBC 연결을 만들지 않음
+ * - R2DBC 트랜잭션 매니저는 등록하지 않음 (@Transactional 은 JPA 트랜잭션 매니저만 사용, 리액티브 경로는 조회 전용)
+ * - JDBC DataSource 는 DataSourceConfig 에서 따로 등록
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.qna.reactive-read.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Value("${app.qna.reactive-read.url:}")
+    private String url;
+
+    @Value("${app.qna.reactive-read.username:}")
+    private String username;
+
+    @Value("${app.qna.reactive-read.password:}")
+    private String password;
+
+    @Value("${app.qna.reactive-read.pool-max-size:20}")
+    private int poolMaxSize;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveReadConnectionFactory() {
+        if (url.isEmpty()) {
+            throw new IllegalArgumentException("app.qna.reactive-read.url 설정이 필요합니다.");
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .maxSize(poolMaxSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveReadDatabaseClient(ConnectionPool reactiveReadConnectionFactory) {
+        return DatabaseClient.create(reactiveReadConnectionFactory);
+    }
+}
@@ -0,0 +1,72 @@
+package com.act2gether.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET 용 검증값 (weak ETag, Last-Modified)
+ * - 응답 내용을 결정하는 값을 순서대로 넣으면 64비트 FNV-1a 해시로 weak ETag 생성
+ * - 넣은 시각 중 가장 늦은 값을 Last-Modified 로 사용
+ * 조회수처럼 자주 바뀌지만 의미상 중요하지 않은 값은 넣지 않는다 (weak 비교 기준).
+ */
+public final class ResponseValidators {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char SEPARATOR = '\u001f';
+
+    private long hash = FNV_OFFSET_BASIS;
+    private long lastModified = -1;
+
+    private ResponseValidators(String scope) {
+        add(scope);
+    }
+
+    /**
+     * scope 는 응답 종류 구분용 (예: 목록, 상세)
+     */
+    public static ResponseValidators of(String scope) {
+        return new ResponseValidators(scope);
+    }
+
+    public ResponseValidators add(Object value) {
+        String text = String.valueOf(value);
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= SEPARATOR;
+        hash *= FNV_PRIME;
+        return this;
+    }
+
+    /**
+     * 수정 시각 추가 (ETag 에 반영하고 Last-Modified 후보로 사용)
+     */
+    public ResponseValidators addTimestamp(LocalDateTime time) {
+        add(time);
+        if (time != null) {
+            modifiedAt(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        return this;
+    }
+
+    /**
+     * ETag 에는 넣지 않고 Last-Modified 후보로만 사용
+     */
+    public ResponseValidators modifiedAt(long epochMillis) {
+        lastModified = Math.max(lastModified, epochMillis);
+        return this;
+    }
+
+    public String getETag() {
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Last-Modified (epoch ms, 알 수 없으면 -1)
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+}
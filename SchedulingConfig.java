@@ -0,0 +1,13 @@
+package com.act2gether.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - 조회수 버퍼 주기적 반영 (QnaViewCountBuffer)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -92,10 +92,12 @@ public class SecurityConfig {
                 // QnA 읽기는 모든 사용자 허용
                 .antMatchers("GET", "/api/qna", "/api/qna/*/replies").permitAll()
                 .antMatchers("GET", "/api/qna/*").permitAll()
+                .antMatchers("GET", "/api/qna/reactive/**").permitAll()
                 
                 // QnA 쓰기는 인증된 사용자만
                 .antMatchers("POST", "/api/qna").authenticated()
                 .antMatchers("PUT", "/api/qna/*").authenticated()
+                .antMatchers("PATCH", "/api/qna/*").authenticated()
                 .antMatchers("DELETE", "/api/qna/*").authenticated()
                 
                 // 답변 작성은 관리자만
@@ -139,7 +141,7 @@ public class SecurityConfig {
         
         // 허용된 HTTP 메서드
         configuration.setAllowedMethods(Arrays.asList(
-            "GET", "POST", "PUT", "DELETE", "OPTIONS"
+            "GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"
         ));
         
         // 허용된 헤더
@@ -207,6 +209,64 @@ app:
     refresh-expiration: 604800000 # 7일
     issuer: act2gether
     audience: act2gether-users
+  # ID 생성 / JDBC 배치 설정
+  id-generation:
+    allocation-size: 50 # id_generators 에서 한 번에 할당받는 ID 개수
+  jdbc:
+    batch-size: 50
+  threads:
+    virtual: false # true 면 요청 처리/MVC 비동기 작업을 가상 스레드에서 실행 (JDK 21 이상, VirtualThreadConfig 참고)
+  json:
+    blackbird: true # Jackson Blackbird 모듈 사용 (응답 직렬화 시 리플렉션 호출 제거)
+  # QnA 설정
+  qna:
+    list-cache:
+      ttl-seconds: 10 # 비로그인 목록 응답 캐시 TTL
+      max-bytes: 8388608 # 압축 본문 기준 최대 보관 용량 (8MB)
+    search:
+      title-boost: 3.0 # 관련도순 정렬 시 제목 출현 가중치 (내용 = 1.0)
+      compaction-check-interval-ms: 60000 # 수정/삭제로 무효가 된 포스팅 항목이 유효 항목보다 많으면 재색인
+    l2-cache: # Hibernate 2차 캐시 영역별 최대 항목 수
+      post-max-entries: 10000
+      replies-max-entries: 10000
+      reply-max-entries: 50000
+      ttl-minutes: 30
+    pending-queue:
+      lease-seconds: 600 # 관리자에게 할당된 답변 대기 게시글의 lease 유지 시간
+      sweep-interval-ms: 30000
+    bulk:
+      chunk-size: 100 # 관리자 일괄 처리 시 트랜잭션 하나로 처리하는 게시글 수
+    view-count:
+      flush-interval-ms: 5000 # 조회수 버퍼 DB 반영 주기
+    view-dedup:
+      window-ms: 1800000 # 같은 조회자의 재조회를 무시하는 기간 (30분)
+      bits-per-generation: 8388608 # 세대당 Bloom filter 크기 (1MB, 2세대 고정)
+      hash-count: 5
+    trending:
+      half-life-minutes: 360 # 인기 점수 반감기
+      view-weight: 1.0
+      reply-weight: 5.0
+      max-tracked: 20000 # 점수를 유지하는 최대 게시글 수
+      top-k: 1000 # 인기순 목록으로 제공하는 최대 게시글 수
+      refresh-interval-ms: 10000
+      snapshot-interval-ms: 300000
+      snapshot-path: ./data/qna-trending.snapshot
+    sse: # 실시간 이벤트 스트림 (GET /api/qna/stream)
+      timeout-ms: 1800000 # 연결 최대 유지 시간 (만료 후 클라이언트가 재연결)
+      buffer-size: 64 # 구독자별 전송 대기 이벤트 수 (초과 시 resync 로 대체)
+      max-subscribers: 2000
+      sender-threads: 4
+      write-timeout-ms: 5000 # 이벤트 하나의 전송이 이 시간을 넘기면 구독 종료 후 전송 스레드 보충
+      heartbeat-interval-ms: 25000
+    reactive-read: # R2DBC 읽기 전용 API (GET /api/qna/reactive, /{qnaId}, /{qnaId}/replies)
+      enabled: false # true 면 아래 R2DBC 연결 설정 필요 (ReactiveReadConfig)
+      url: ${R2DBC_URL:} # 예: r2dbc:mysql://host:3306/db, 테스트는 r2dbc:h2:mem:///qna
+      username: ${DB_USERNAME}
+      password: ${DB_PASSWORD}
+      pool-max-size: 20
+      user-table: users # 작성자/관리자 닉네임 조인용 사용자 테이블
+      user-id-column: 유저_pid
+      user-name-column: 유저아이디
 
 # 파일 업로드 보안 설정
 spring:
@@ -228,6 +288,18 @@ spring:
       connection-timeout: 30000
       idle-timeout: 600000
       max-lifetime: 1800000
+      data-source-properties:
+        # MySQL 서버 커서로 fetch size 만큼 나눠 읽기 (없으면 드라이버가 결과 전체를 메모리에 올림, 답변 이력 스트리밍용)
+        # DB_URL 에 useCursorFetch=true 를 넣어도 됨, 둘 다 없으면 답변 이력 내보내기를 페이지 단위 조회로 처리 (QnaReplyService)
+        useCursorFetch: true
+  autoconfigure:
+    # R2DBC 연결은 app.qna.reactive-read.enabled=true 일 때 ReactiveReadConfig 에서만 생성
+    # (R2DBC 트랜잭션 매니저가 JPA 트랜잭션 매니저를 대신하지 않도록 함께 제외)
+    exclude:
+      - org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration
+      - org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration
+      - org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration
+      - org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration
       
 # 로깅 보안 설정
 logging:
@@ -0,0 +1,80 @@
+package com.act2gether.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 요청 처리 모드 (app.threads.virtual=true 일 때만 사용, 실행 JDK 21 이상)
+ * - 빌드 기준은 JDK 17 이므로 가상 스레드 API 는 리플렉션으로 호출 (JDK 21 미만에서 켜면 시작 시 실패)
+ * - Tomcat 요청 처리 executor 를 요청마다 가상 스레드를 만드는 executor 로 교체 (server.tomcat.threads.max 는 무시됨)
+ * - Spring MVC 비동기 처리 (StreamingResponseBody 내보내기 등) 도 같은 executor 에서 실행
+ * - 동시 요청 수는 server.tomcat.max-connections, 동시 DB 작업은 Hikari 풀 크기로 제한되고
+ *   커넥션을 기다리는 요청은 플랫폼 스레드 없이 대기 (spring.datasource.hikari.connection-timeout 까지)
+ *
+ * 캐리어 스레드 고정(pinning) 지점 (-Djdk.tracePinnedThreads=short 로 확인)
+ * - MySQL Connector/J 8.x: 쿼리 실행/결과 읽기가 연결 단위 synchronized 블록 안에서 소켓 I/O 를 수행하므로
+ *   DB 응답을 기다리는 동안 캐리어가 고정된다. 고정되는 캐리어 수는 최대 Hikari 풀 크기이므로 풀 크기가
+ *   캐리어 수(CPU 코어 수)보다 크면 다른 가상 스레드가 굶을 수 있다. synchronized 를 ReentrantLock 으로 바꾼 9.x 사용 권장
+ * - 애플리케이션 코드: 공유 상태는 ReentrantLock/ReentrantReadWriteLock 과 ConcurrentHashMap 으로 보호하며
+ *   synchronized 블록은 없다. ConcurrentHashMap.computeIfAbsent 는 bin 단위로 잠그지만 I/O 없이 짧게 끝난다.
+ * - ImageIO 파일 쓰기 (FileUploadUtil): 파일 I/O 는 캐리어를 고정하지만 JDK 가 스케줄러 캐리어를 임시로 늘려 보상한다.
+ * - BCrypt (강도 12): CPU 작업이라 가상 스레드로 얻는 이득이 없고, 로그인이 몰리면 캐리어를 그대로 점유한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtual", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    private final ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadTomcatCustomizer() {
+        return factory -> factory.addProtocolHandlerCustomizers(protocolHandler -> {
+            protocolHandler.setExecutor(virtualThreadExecutor);
+            log.info("Tomcat 요청 처리를 가상 스레드에서 실행합니다.");
+        });
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor));
+    }
+
+    /**
+     * Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("qna-vt-", 0).factory()) 와 동일
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "qna-vt-", 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(
+                    "app.threads.virtual=true 는 JDK 21 이상에서만 사용할 수 있습니다 (현재: "
+                            + Runtime.version().feature() + ").", e);
+        }
+    }
+
+    /**
+     * 외부에서 지정한 executor 는 Tomcat 이 종료하지 않으므로 직접 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        virtualThreadExecutor.shutdown();
+    }
+}
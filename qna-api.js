@@ -5,6 +5,10 @@ class QnaAPI {
     constructor() {
         this.baseURL = '/api/qna';
         this.token = this.getTokenFromStorage();
+        
+        // 조건부 GET 용 응답 캐시 (URL -> { etag, lastModified, result }), 오래된 것부터 제거
+        this.responseCache = new Map();
+        this.responseCacheLimit = 50;
     }
 
     /**
@@ -19,6 +23,7 @@ class QnaAPI {
      */
     setToken(token) {
         this.token = token;
+        this.responseCache.clear();
         localStorage.setItem('jwt-token', token);
     }
 
@@ -27,6 +32,7 @@ class QnaAPI {
      */
     removeToken() {
         this.token = null;
+        this.responseCache.clear();
         localStorage.removeItem('jwt-token');
         sessionStorage.removeItem('jwt-token');
     }
@@ -51,11 +57,11 @@ class QnaAPI {
     /**
      * API 요청 실행
      */
-    async request(method, url, data = null, isFormData = false) {
+    async request(method, url, data = null, isFormData = false, extraHeaders = {}) {
         try {
             const config = {
                 method: method.toUpperCase(),
-                headers: this.getHeaders(isFormData)
+                headers: { ...this.getHeaders(isFormData), ...extraHeaders }
             };
 
             if (data) {
@@ -66,11 +72,36 @@ class QnaAPI {
                 }
             }
 
+            // GET 은 이전 응답의 검증값을 보내고, 304 이면 보관한 결과를 그대로 사용
+            const isGet = config.method === 'GET';
+            const cached = isGet ? this.responseCache.get(url) : null;
+            if (cached) {
+                if (cached.etag) {
+                    config.headers['If-None-Match'] = cached.etag;
+                }
+                if (cached.lastModified) {
+                    config.headers['If-Modified-Since'] = cached.lastModified;
+                }
+            }
+
             const response = await fetch(url, config);
+
+            if (response.status === 304 && cached) {
+                this.responseCache.delete(url);
+                this.responseCache.set(url, cached);
+                return cached.result;
+            }
+
             const result = await response.json();
 
             if (!response.ok) {
-                throw new Error(result.message || `HTTP ${response.status}`);
+                const error = new Error(result.message || `HTTP ${response.status}`);
+                error.status = response.status;
+                throw error;
+            }
+
+            if (isGet) {
+                this.cacheResponse(url, response, result);
             }
 
             return result;
@@ -80,6 +111,24 @@ class QnaAPI {
         }
     }
 
+    /**
+     * 검증값(ETag/Last-Modified)이 있는 GET 응답 보관
+     */
+    cacheResponse(url, response, result) {
+        const etag = response.headers.get('ETag');
+        const lastModified = response.headers.get('Last-Modified');
+
+        this.responseCache.delete(url);
+        if (!etag && !lastModified) {
+            return;
+        }
+
+        this.responseCache.set(url, { etag, lastModified, result });
+        if (this.responseCache.size > this.responseCacheLimit) {
+            this.responseCache.delete(this.responseCache.keys().next().value);
+        }
+    }
+
     /**
      * QnA 게시글 목록 조회
      */
@@ -96,6 +145,95 @@ class QnaAPI {
         return await this.request('GET', url);
     }
 
+    /**
+     * 검색어 자동완성 (제목 접두어)
+     */
+    async getSuggestions(prefix, limit = 8) {
+        const searchParams = new URLSearchParams({ prefix, limit });
+        const url = `${this.baseURL}/suggestions?${searchParams.toString()}`;
+        return await this.request('GET', url);
+    }
+
+    /**
+     * 실시간 이벤트 스트림 구독 (SSE)
+     * EventSource 는 Authorization 헤더를 보낼 수 없어 fetch 로 스트림을 직접 읽는다.
+     * 연결되면 onOpen, 끊기면 onClose 가 호출되며, 반환된 AbortController 로 구독을 해제한다.
+     */
+    openEventStream(onEvent, onClose, onOpen) {
+        const controller = new AbortController();
+        const headers = { 'Accept': 'text/event-stream' };
+        if (this.token) {
+            headers['Authorization'] = `Bearer ${this.token}`;
+        }
+
+        (async () => {
+            let opened = false;
+            try {
+                const response = await fetch(`${this.baseURL}/stream`, {
+                    headers,
+                    signal: controller.signal,
+                    cache: 'no-store'
+                });
+                if (!response.ok || !response.body) {
+                    throw new Error(`HTTP ${response.status}`);
+                }
+                opened = true;
+                if (onOpen) {
+                    onOpen();
+                }
+
+                const reader = response.body.getReader();
+                const decoder = new TextDecoder();
+                let buffer = '';
+
+                while (true) {
+                    const { done, value } = await reader.read();
+                    if (done) break;
+
+                    buffer += decoder.decode(value, { stream: true });
+                    let boundary;
+                    while ((boundary = buffer.search(/\r?\n\r?\n/)) >= 0) {
+                        const block = buffer.slice(0, boundary);
+                        buffer = buffer.slice(boundary).replace(/^\r?\n\r?\n/, '');
+                        this.dispatchStreamEvent(block, onEvent);
+                    }
+                }
+            } catch (error) {
+                if (controller.signal.aborted) return;
+                console.warn('실시간 스트림 연결 종료:', error.message);
+            }
+            if (!controller.signal.aborted && onClose) {
+                onClose(opened);
+            }
+        })();
+
+        return controller;
+    }
+
+    /**
+     * SSE 이벤트 블록 파싱 후 전달 (주석/heartbeat 는 무시)
+     */
+    dispatchStreamEvent(block, onEvent) {
+        let name = 'message';
+        const dataLines = [];
+
+        block.split(/\r?\n/).forEach(line => {
+            if (line.startsWith('event:')) {
+                name = line.slice(6).trim();
+            } else if (line.startsWith('data:')) {
+                dataLines.push(line.slice(5).replace(/^ /, ''));
+            }
+        });
+
+        if (dataLines.length === 0) return;
+
+        try {
+            onEvent(name, JSON.parse(dataLines.join('\n')));
+        } catch (error) {
+            console.error('실시간 이벤트 처리 실패:', error);
+        }
+    }
+
     /**
      * QnA 게시글 상세 조회
      */
@@ -104,6 +242,14 @@ class QnaAPI {
         return await this.request('GET', url);
     }
 
+    /**
+     * QnA 게시글 여러 건 조회 (최대 100건, 요청 순서대로 반환하며 없거나 볼 수 없는 게시글은 null)
+     */
+    async getQnaPostsBatch(qnaIds) {
+        const url = `${this.baseURL}/batch?ids=${qnaIds.map(encodeURIComponent).join(',')}`;
+        return await this.request('GET', url);
+    }
+
     /**
      * QnA 게시글 생성
      */
@@ -127,7 +273,7 @@ class QnaAPI {
     /**
      * QnA 게시글 수정
      */
-    async updateQnaPost(qnaId, postData) {
+    async updateQnaPost(qnaId, postData, version = null) {
         const formData = new FormData();
         
         // 수정된 데이터만 추가
@@ -151,7 +297,15 @@ class QnaAPI {
         }
 
         const url = `${this.baseURL}/${qnaId}`;
-        return await this.request('PUT', url, formData, true);
+        return await this.request('PUT', url, formData, true, this.ifMatchHeader(version));
+    }
+
+    /**
+     * QnA 게시글 부분 수정 (보낸 필드만 반영, 이미지 변경은 updateQnaPost 사용)
+     */
+    async patchQnaPost(qnaId, changes, version = null) {
+        const url = `${this.baseURL}/${qnaId}`;
+        return await this.request('PATCH', url, changes, false, this.ifMatchHeader(version));
     }
 
     /**
@@ -181,9 +335,16 @@ class QnaAPI {
     /**
      * QnA 답변 수정 (관리자만)
      */
-    async updateReply(replyId, replyData) {
+    async updateReply(replyId, replyData, version = null) {
         const url = `${this.baseURL}/replies/${replyId}`;
-        return await this.request('PUT', url, replyData);
+        return await this.request('PUT', url, replyData, false, this.ifMatchHeader(version));
+    }
+
+    /**
+     * 수정 요청용 If-Match 헤더 (조회 시 받은 버전, 서버에서 다른 버전이면 412)
+     */
+    ifMatchHeader(version) {
+        return version !== null && version !== undefined ? { 'If-Match': `"${version}"` } : {};
     }
 
     /**
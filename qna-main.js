@@ -23,6 +23,9 @@ document.addEventListener('DOMContentLoaded', async function() {
         // 페이지 가시성 변경 처리
         setupPageVisibilityHandler();
         
+        // 실시간 이벤트 스트림 연결
+        reconnectLiveStream();
+        
         console.log('QnA 게시판 초기화 완료');
         
     } catch (error) {
@@ -186,6 +189,7 @@ function setupBrowserNavigation() {
             document.getElementById('searchInput').value = qnaUI.currentFilters.keyword || '';
             document.getElementById('categoryFilter').value = qnaUI.currentFilters.category || '';
             document.getElementById('statusFilter').value = qnaUI.currentFilters.answerStatus || '';
+            document.getElementById('sortFilter').value = qnaUI.currentFilters.sort || '';
             document.getElementById('myPostsOnly').checked = qnaUI.currentFilters.myPostsOnly || false;
             
             // 게시글 목록 로드
@@ -201,12 +205,14 @@ function setupBrowserNavigation() {
         qnaUI.currentFilters.keyword = urlParams.get('keyword') || '';
         qnaUI.currentFilters.category = urlParams.get('category') || '';
         qnaUI.currentFilters.answerStatus = urlParams.get('answerStatus') || '';
+        qnaUI.currentFilters.sort = urlParams.get('sort') || '';
         qnaUI.currentFilters.myPostsOnly = urlParams.get('myPostsOnly') === 'true';
         
         // UI 요소 업데이트
         document.getElementById('searchInput').value = qnaUI.currentFilters.keyword;
         document.getElementById('categoryFilter').value = qnaUI.currentFilters.category;
         document.getElementById('statusFilter').value = qnaUI.currentFilters.answerStatus;
+        document.getElementById('sortFilter').value = qnaUI.currentFilters.sort;
         document.getElementById('myPostsOnly').checked = qnaUI.currentFilters.myPostsOnly;
     }
     
@@ -247,6 +253,11 @@ function setupPageVisibilityHandler() {
                 qnaUI.showToast('세션이 만료되었습니다. 다시 로그인해주세요.', 'warning');
             }
             
+            // 실시간 스트림이 연결되어 있으면 목록이 이미 최신 상태
+            if (liveStream.connected) {
+                return;
+            }
+            
             // 목록이 오래되었다면 새로고침 (5분 이상)
             const lastLoadTime = qnaUI.lastLoadTime || 0;
             const now = Date.now();
@@ -255,10 +266,61 @@ function setupPageVisibilityHandler() {
             if (now - lastLoadTime > fiveMinutes) {
                 qnaUI.loadPosts();
             }
+            
+            // 끊겨 있던 스트림은 바로 재연결
+            reconnectLiveStream();
         }
     });
 }
 
+/**
+ * 실시간 이벤트 스트림 상태
+ */
+const liveStream = {
+    controller: null,
+    connected: false,
+    retryDelay: 1000,
+    retryTimer: null
+};
+
+/**
+ * 실시간 이벤트 스트림 (재)연결
+ * 로그인 상태가 바뀌면 열람 권한이 달라지므로 새로 연결한다.
+ */
+function reconnectLiveStream() {
+    if (liveStream.controller) {
+        liveStream.controller.abort();
+    }
+    clearTimeout(liveStream.retryTimer);
+    liveStream.connected = false;
+
+    if (!window.fetch || !window.ReadableStream || !window.TextDecoder) {
+        return;
+    }
+
+    liveStream.controller = qnaAPI.openEventStream(
+        (name, data) => qnaUI.handleLiveEvent(name, data),
+        (wasOpened) => {
+            liveStream.connected = false;
+            
+            // 연결되어 있던 동안 놓친 변경이 있을 수 있으므로 목록 갱신
+            if (wasOpened) {
+                qnaUI.loadPosts();
+            }
+            
+            // 지수 백오프 재연결 (최대 1분), 숨겨진 탭은 다시 보일 때 연결
+            if (!document.hidden) {
+                liveStream.retryTimer = setTimeout(reconnectLiveStream, liveStream.retryDelay);
+                liveStream.retryDelay = Math.min(liveStream.retryDelay * 2, 60000);
+            }
+        },
+        () => {
+            liveStream.connected = true;
+            liveStream.retryDelay = 1000;
+        }
+    );
+}
+
 /**
  * 이미지 로드 에러 처리
  */
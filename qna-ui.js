@@ -8,11 +8,17 @@ class QnaUI {
             keyword: '',
             category: '',
             answerStatus: '',
+            sort: '',
             myPostsOnly: false
         };
         this.isLoading = false;
         this.editingPostId = null;
         this.editingReplyId = null;
+        this.editingPostVersion = null;
+        this.editingPostOriginal = null;
+        this.editingReplyVersion = null;
+        this.currentDetailPostId = null;
+        this.lastLoadTime = 0;
         
         this.initializeElements();
         this.bindEvents();
@@ -25,8 +31,10 @@ class QnaUI {
         // 검색 및 필터 요소
         this.searchInput = document.getElementById('searchInput');
         this.searchBtn = document.getElementById('searchBtn');
+        this.searchSuggestions = document.getElementById('searchSuggestions');
         this.categoryFilter = document.getElementById('categoryFilter');
         this.statusFilter = document.getElementById('statusFilter');
+        this.sortFilter = document.getElementById('sortFilter');
         this.myPostsOnlyCheckbox = document.getElementById('myPostsOnly');
         this.resetFiltersBtn = document.getElementById('resetFilters');
 
@@ -65,14 +73,19 @@ class QnaUI {
             }
         });
 
-        // 디바운싱된 실시간 검색
+        // 입력 중에는 제목 자동완성만 조회 (전체 검색은 Enter/검색 버튼)
         this.searchInput.addEventListener('input', 
-            qnaAPI.debounce(() => this.handleSearch(), 500)
+            qnaAPI.debounce(() => this.loadSuggestions(), 150)
         );
+        this.searchInput.addEventListener('blur', () => {
+            // 제안 항목 클릭이 먼저 처리되도록 지연
+            setTimeout(() => this.hideSuggestions(), 150);
+        });
 
         // 필터 변경 이벤트
         this.categoryFilter.addEventListener('change', () => this.handleFilterChange());
         this.statusFilter.addEventListener('change', () => this.handleFilterChange());
+        this.sortFilter.addEventListener('change', () => this.handleFilterChange());
         this.myPostsOnlyCheckbox.addEventListener('change', () => this.handleFilterChange());
         this.resetFiltersBtn.addEventListener('click', () => this.resetFilters());
 
@@ -235,10 +248,63 @@ class QnaUI {
         }
     }
 
+    /**
+     * 검색어 자동완성 조회
+     */
+    async loadSuggestions() {
+        const prefix = this.searchInput.value.trim();
+        if (!prefix) {
+            this.hideSuggestions();
+            return;
+        }
+
+        try {
+            const response = await qnaAPI.getSuggestions(prefix);
+            // 응답이 오는 동안 입력이 바뀌었으면 무시
+            if (response.success && this.searchInput.value.trim() === prefix) {
+                this.renderSuggestions(response.data);
+            }
+        } catch (error) {
+            this.hideSuggestions();
+        }
+    }
+
+    /**
+     * 자동완성 목록 렌더링
+     */
+    renderSuggestions(suggestions) {
+        if (!suggestions || suggestions.length === 0) {
+            this.hideSuggestions();
+            return;
+        }
+
+        this.searchSuggestions.innerHTML = suggestions.map(suggestion => `
+            <li class="search-suggestion" role="option"
+                onmousedown="qnaUI.selectSuggestion(${suggestion.qnaId})">
+                ${qnaAPI.stripHtml(suggestion.title)}
+            </li>
+        `).join('');
+        this.searchSuggestions.classList.add('show');
+    }
+
+    /**
+     * 자동완성 항목 선택 시 게시글 상세 열기
+     */
+    selectSuggestion(qnaId) {
+        this.hideSuggestions();
+        this.openDetailModal(qnaId);
+    }
+
+    hideSuggestions() {
+        this.searchSuggestions.classList.remove('show');
+        this.searchSuggestions.innerHTML = '';
+    }
+
     /**
      * 검색 처리
      */
     handleSearch() {
+        this.hideSuggestions();
         this.currentFilters.keyword = this.searchInput.value.trim();
         this.currentPage = 0;
         this.loadPosts();
@@ -250,6 +316,7 @@ class QnaUI {
     handleFilterChange() {
         this.currentFilters.category = this.categoryFilter.value;
         this.currentFilters.answerStatus = this.statusFilter.value;
+        this.currentFilters.sort = this.sortFilter.value;
         this.currentFilters.myPostsOnly = this.myPostsOnlyCheckbox.checked;
         this.currentPage = 0;
         this.loadPosts();
@@ -262,12 +329,14 @@ class QnaUI {
         this.searchInput.value = '';
         this.categoryFilter.value = '';
         this.statusFilter.value = '';
+        this.sortFilter.value = '';
         this.myPostsOnlyCheckbox.checked = false;
         
         this.currentFilters = {
             keyword: '',
             category: '',
             answerStatus: '',
+            sort: '',
             myPostsOnly: false
         };
         this.currentPage = 0;
@@ -295,7 +364,9 @@ class QnaUI {
             if (response.success) {
                 this.renderPosts(response.data);
                 this.renderPagination(response);
+                this.renderFacets(response.facets);
                 this.totalCount.textContent = response.totalElements || 0;
+                this.lastLoadTime = Date.now();
             }
         } catch (error) {
             console.error('게시글 로드 실패:', error);
@@ -307,6 +378,21 @@ class QnaUI {
         }
     }
 
+    /**
+     * 필터 옵션에 건수 표시 (키워드 검색 등 facets 가 없으면 건수 제거)
+     */
+    renderFacets(facets) {
+        const apply = (select, counts) => {
+            Array.from(select.options).forEach(option => {
+                if (!option.value) return;
+                const count = counts ? counts[option.value] : undefined;
+                option.textContent = count !== undefined ? `${option.value} (${count})` : option.value;
+            });
+        };
+        apply(this.categoryFilter, facets ? facets.category : null);
+        apply(this.statusFilter, facets ? facets.answerStatus : null);
+    }
+
     /**
      * 게시글 목록 렌더링
      */
@@ -316,9 +402,14 @@ class QnaUI {
             return;
         }
 
-        const currentUser = qnaAPI.getCurrentUser();
-        
-        this.postsList.innerHTML = posts.map(post => `
+        this.postsList.innerHTML = posts.map(post => this.renderPostItem(post)).join('');
+    }
+
+    /**
+     * 게시글 목록 항목 HTML
+     */
+    renderPostItem(post) {
+        return `
             <div class="post-item ${post.isOwner ? 'my-post' : ''} ${post.isLocked ? 'locked' : ''}" 
                  data-post-id="${post.qnaId}"
                  onclick="qnaUI.openDetailModal(${post.qnaId})">
@@ -337,13 +428,13 @@ class QnaUI {
                 </h3>
                 
                 <div class="post-info">
-                    <span><i class="fas fa-user"></i> ${post.userNickname}</span>
+                    ${post.userNickname ? `<span><i class="fas fa-user"></i> ${post.userNickname}</span>` : ''}
                     <span><i class="fas fa-clock"></i> ${qnaAPI.formatDate(post.createdAt)}</span>
                     <span><i class="fas fa-eye"></i> ${post.viewCount}</span>
-                    ${post.replyCount > 0 ? `<span><i class="fas fa-comments"></i> ${post.replyCount}</span>` : ''}
+                    ${post.replyCount > 0 ? `<span class="reply-count"><i class="fas fa-comments"></i> ${post.replyCount}</span>` : ''}
                 </div>
             </div>
-        `).join('');
+        `;
     }
 
     /**
@@ -494,6 +585,7 @@ class QnaUI {
             qnaAPI.setToken(token);
             this.updateUserInterface();
             this.loadPosts();
+            reconnectLiveStream();
             this.showToast('로그인되었습니다.', 'success');
         }
     }
@@ -505,6 +597,7 @@ class QnaUI {
         qnaAPI.removeToken();
         this.updateUserInterface();
         this.resetFilters();
+        reconnectLiveStream();
         this.showToast('로그아웃되었습니다.', 'success');
     }
 
@@ -538,6 +631,8 @@ class QnaUI {
     closePostModal() {
         this.postModal.classList.remove('show');
         this.editingPostId = null;
+        this.editingPostVersion = null;
+        this.editingPostOriginal = null;
         this.resetPostForm();
     }
 
@@ -565,6 +660,13 @@ class QnaUI {
             
             if (response.success) {
                 const post = response.data;
+                this.editingPostVersion = post.version;
+                this.editingPostOriginal = {
+                    category: post.category,
+                    title: post.title,
+                    content: post.content,
+                    isLocked: post.isLocked
+                };
                 
                 document.getElementById('postCategory').value = post.category;
                 document.getElementById('postTitle').value = post.title;
@@ -612,8 +714,11 @@ class QnaUI {
             const formData = this.getFormData();
             let response;
             
-            if (this.editingPostId) {
-                response = await qnaAPI.updateQnaPost(this.editingPostId, formData);
+            if (this.editingPostId && !formData.imageFile && this.editingPostOriginal) {
+                // 이미지 변경이 없으면 바뀐 필드만 PATCH 로 전송
+                response = await qnaAPI.patchQnaPost(this.editingPostId, this.getChangedFields(formData), this.editingPostVersion);
+            } else if (this.editingPostId) {
+                response = await qnaAPI.updateQnaPost(this.editingPostId, formData, this.editingPostVersion);
             } else {
                 response = await qnaAPI.createQnaPost(formData);
             }
@@ -626,6 +731,14 @@ class QnaUI {
             }
         } catch (error) {
             console.error('게시글 저장 실패:', error);
+            
+            // 다른 곳에서 먼저 수정됨: 최신 내용을 다시 불러옴
+            if (error.status === 412 && this.editingPostId) {
+                this.showToast('다른 곳에서 먼저 수정된 게시글입니다. 최신 내용을 불러왔습니다.', 'warning');
+                await this.loadPostForEdit(this.editingPostId);
+                return;
+            }
+            
             this.showToast(error.message || '게시글 저장에 실패했습니다.', 'error');
         } finally {
             submitBtn.disabled = false;
@@ -652,6 +765,19 @@ class QnaUI {
         };
     }
 
+    /**
+     * 수정 폼에서 불러온 값과 달라진 필드만 추출
+     */
+    getChangedFields(formData) {
+        const changes = {};
+        ['category', 'title', 'content', 'isLocked'].forEach(field => {
+            if (formData[field] !== this.editingPostOriginal[field]) {
+                changes[field] = formData[field];
+            }
+        });
+        return changes;
+    }
+
     /**
      * 게시글 상세 모달 열기
      */
@@ -660,6 +786,7 @@ class QnaUI {
             const response = await qnaAPI.getQnaPost(postId);
             
             if (response.success) {
+                this.currentDetailPostId = postId;
                 this.renderPostDetail(response.data);
                 this.detailModal.classList.add('show');
                 
@@ -747,6 +874,8 @@ class QnaUI {
     closeDetailModal() {
         this.detailModal.classList.remove('show');
         this.editingReplyId = null;
+        this.editingReplyVersion = null;
+        this.currentDetailPostId = null;
         
         // 답변 폼 초기화
         const replyContent = document.getElementById('replyContent');
@@ -794,7 +923,14 @@ class QnaUI {
             return;
         }
 
-        repliesList.innerHTML = replies.map(reply => `
+        repliesList.innerHTML = replies.map(reply => this.renderReplyItem(reply, currentUser, isAdmin)).join('');
+    }
+
+    /**
+     * 답변 항목 HTML
+     */
+    renderReplyItem(reply, currentUser, isAdmin) {
+        return `
             <div class="reply-item" data-reply-id="${reply.replyId}">
                 <div class="reply-header">
                     <span class="reply-author">
@@ -806,7 +942,7 @@ class QnaUI {
                 <div class="reply-content">${reply.replyContent}</div>
                 ${isAdmin && currentUser.userId === reply.adminUserPid ? `
                     <div class="reply-actions-inline">
-                        <button class="btn btn-small btn-outline" onclick="qnaUI.editReply(${reply.replyId}, '${reply.replyContent.replace(/'/g, "\\'")}')">
+                        <button class="btn btn-small btn-outline" onclick="qnaUI.editReply(${reply.replyId}, '${reply.replyContent.replace(/'/g, "\\'")}', ${reply.version ?? 'null'})">
                             <i class="fas fa-edit"></i> 수정
                         </button>
                         <button class="btn btn-small btn-danger" onclick="qnaUI.confirmDeleteReply(${reply.replyId})">
@@ -815,7 +951,7 @@ class QnaUI {
                     </div>
                 ` : ''}
             </div>
-        `).join('');
+        `;
     }
 
     /**
@@ -851,7 +987,7 @@ class QnaUI {
             let response;
             
             if (this.editingReplyId) {
-                response = await qnaAPI.updateReply(this.editingReplyId, replyData);
+                response = await qnaAPI.updateReply(this.editingReplyId, replyData, this.editingReplyVersion);
             } else {
                 response = await qnaAPI.createReply(qnaId, replyData);
             }
@@ -867,12 +1003,23 @@ class QnaUI {
                 document.getElementById('replyContent').value = '';
                 document.getElementById('replyCounter').textContent = '0';
                 this.editingReplyId = null;
+                this.editingReplyVersion = null;
                 
                 // 게시글 목록도 새로고침 (답변 상태 업데이트)
                 this.loadPosts();
             }
         } catch (error) {
             console.error('답변 저장 실패:', error);
+            
+            // 다른 곳에서 먼저 수정됨: 답변 목록을 다시 불러온 뒤 다시 수정하도록 안내
+            if (error.status === 412) {
+                this.showToast('다른 곳에서 먼저 수정된 답변입니다. 최신 내용을 확인 후 다시 수정해주세요.', 'warning');
+                this.editingReplyId = null;
+                this.editingReplyVersion = null;
+                await this.loadReplies(qnaId);
+                return;
+            }
+            
             this.showToast(error.message || '답변 저장에 실패했습니다.', 'error');
         } finally {
             submitBtn.disabled = false;
@@ -883,8 +1030,9 @@ class QnaUI {
     /**
      * 답변 수정
      */
-    editReply(replyId, content) {
+    editReply(replyId, content, version = null) {
         this.editingReplyId = replyId;
+        this.editingReplyVersion = version;
         
         const replyContent = document.getElementById('replyContent');
         const replyCounter = document.getElementById('replyCounter');
@@ -966,6 +1114,145 @@ class QnaUI {
         }
     }
 
+    /**
+     * 실시간 이벤트 반영 (목록/상세를 다시 조회하지 않고 해당 부분만 갱신)
+     */
+    handleLiveEvent(name, data) {
+        switch (name) {
+            case 'post-created':
+                this.applyPostCreated(data);
+                break;
+            case 'post-deleted':
+                this.applyPostDeleted(data.qnaId);
+                break;
+            case 'reply-created':
+                this.applyReplyCreated(data);
+                break;
+            case 'status-changed':
+                this.applyAnswerStatus(data.qnaId, data.answerStatus);
+                break;
+            case 'resync':
+                // 서버 전송 큐가 넘쳐 이벤트가 유실됨: 전체 다시 조회
+                this.loadPosts();
+                if (this.currentDetailPostId) {
+                    this.loadReplies(this.currentDetailPostId);
+                }
+                break;
+        }
+    }
+
+    /**
+     * 새 게시글: 첫 페이지 최신순 목록이고 현재 필터에 맞으면 맨 앞에 추가
+     */
+    applyPostCreated(post) {
+        const filters = this.currentFilters;
+        const currentUser = qnaAPI.getCurrentUser();
+        const isOwner = !!currentUser && currentUser.userId === post.userPid;
+
+        const matches = this.currentPage === 0
+            && !filters.keyword
+            && !filters.sort
+            && (!filters.category || filters.category === post.category)
+            && (!filters.answerStatus || filters.answerStatus === post.answerStatus)
+            && (!filters.myPostsOnly || isOwner);
+
+        if (!matches) return;
+        if (this.postsList.querySelector(`.post-item[data-post-id="${post.qnaId}"]`)) return;
+
+        const emptyState = this.postsList.querySelector('.empty-state');
+        if (emptyState) {
+            emptyState.remove();
+        }
+
+        this.postsList.insertAdjacentHTML('afterbegin', this.renderPostItem({
+            ...post,
+            isOwner,
+            viewCount: 0,
+            replyCount: 0
+        }));
+
+        // 페이지 크기 유지
+        const items = this.postsList.querySelectorAll('.post-item');
+        if (items.length > 5) {
+            items[items.length - 1].remove();
+        }
+        this.totalCount.textContent = (parseInt(this.totalCount.textContent, 10) || 0) + 1;
+    }
+
+    /**
+     * 게시글 삭제: 목록에서 제거하고, 보고 있던 상세는 닫기
+     */
+    applyPostDeleted(qnaId) {
+        const item = this.postsList.querySelector(`.post-item[data-post-id="${qnaId}"]`);
+        if (item) {
+            item.remove();
+            this.totalCount.textContent = Math.max(0, (parseInt(this.totalCount.textContent, 10) || 0) - 1);
+        }
+
+        if (this.currentDetailPostId === qnaId) {
+            this.closeDetailModal();
+            this.showToast('삭제된 게시글입니다.', 'warning');
+        }
+    }
+
+    /**
+     * 새 답변: 목록의 답변 수/상태, 열려 있는 상세의 답변 목록 갱신
+     */
+    applyReplyCreated(data) {
+        const item = this.postsList.querySelector(`.post-item[data-post-id="${data.qnaId}"]`);
+        if (item) {
+            const replyCount = item.querySelector('.reply-count');
+            if (replyCount) {
+                const count = (parseInt(replyCount.textContent, 10) || 0) + 1;
+                replyCount.innerHTML = `<i class="fas fa-comments"></i> ${count}`;
+            } else {
+                item.querySelector('.post-info').insertAdjacentHTML('beforeend',
+                    '<span class="reply-count"><i class="fas fa-comments"></i> 1</span>');
+            }
+        }
+
+        if (data.answerStatus) {
+            this.applyAnswerStatus(data.qnaId, data.answerStatus);
+        }
+
+        if (this.currentDetailPostId !== data.qnaId) return;
+
+        // 일괄 답변 등 답변 본문이 없는 이벤트는 해당 게시글 답변만 다시 조회
+        if (!data.reply) {
+            this.loadReplies(data.qnaId);
+            return;
+        }
+
+        const repliesList = document.getElementById('repliesList');
+        if (repliesList.querySelector(`.reply-item[data-reply-id="${data.reply.replyId}"]`)) return;
+
+        const emptyState = repliesList.querySelector('.empty-state');
+        if (emptyState) {
+            emptyState.remove();
+        }
+
+        const currentUser = qnaAPI.getCurrentUser();
+        const isAdmin = currentUser && currentUser.isAdmin;
+        repliesList.insertAdjacentHTML('beforeend', this.renderReplyItem(data.reply, currentUser, isAdmin));
+    }
+
+    /**
+     * 답변상태 배지 갱신 (목록, 열려 있는 상세)
+     */
+    applyAnswerStatus(qnaId, answerStatus) {
+        const badge = this.postsList.querySelector(`.post-item[data-post-id="${qnaId}"] .status-badge`);
+        if (badge) {
+            badge.textContent = answerStatus;
+            badge.className = `status-badge ${answerStatus}`;
+        }
+
+        if (this.currentDetailPostId === qnaId) {
+            const detailStatus = document.getElementById('detailStatus');
+            detailStatus.textContent = answerStatus;
+            detailStatus.className = `status-badge ${answerStatus}`;
+        }
+    }
+
     /**
      * 현재 상세보기 중인 게시글 ID 가져오기
      */